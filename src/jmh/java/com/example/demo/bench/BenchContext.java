@@ -0,0 +1,27 @@
+package com.example.demo.bench;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.synthetic.SyntheticDataLoader;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 웹 서버 없이 애플리케이션 컨텍스트를 띄우고 합성 데이터를 적재
+final class BenchContext {
+    private BenchContext() {
+    }
+
+    static ConfigurableApplicationContext start(SyntheticDataset dataset) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN",
+                        // 측정 중에 주기 배치가 끼어들지 않도록 함
+                        "reservation.batch.sweep-interval-ms=86400000",
+                        "reservation.archive.interval-ms=86400000")
+                .run();
+        context.getBean(SyntheticDataLoader.class).load(dataset.toData());
+        return context;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.bench;
+
+import com.example.demo.index.SeatAvailabilityBitmap;
+import com.example.demo.index.SeatIntervalIndex;
+import com.example.demo.synthetic.SyntheticData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Spring 컨텍스트 없이 예약 판단에 쓰이는 메모리 인덱스만 측정
+// (예약 생성/연장의 좌석 중복 검사, 예약 가능 좌석 조회의 좌석별 판정)
+// 1인 1일 8시간 검사, 이력 조회, 배치 전이는 DB 작업만 하므로 ReservationServiceBenchmark 에서 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ReservationIndexBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int seats;
+
+    @Param({"100000", "1000000"})
+    public int reservations;
+
+    private SyntheticDataset dataset;
+    private SeatIntervalIndex intervalIndex;
+    private SeatAvailabilityBitmap availabilityBitmap;
+    private List<SyntheticData.ReservationRow> futureRows;
+    private final SplittableRandom random = new SplittableRandom(SyntheticDataset.SEED);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataset = SyntheticDataset.generate(seats, reservations, SyntheticDataset.SEED);
+        intervalIndex = new SeatIntervalIndex();
+        availabilityBitmap = new SeatAvailabilityBitmap(intervalIndex);
+        // ReservationIndexUpdater.rebuild 와 같은 순서로 반영
+        for (SyntheticData.ReservationRow row : dataset.reservations()) {
+            intervalIndex.apply(row.toEvent());
+        }
+        for (SyntheticData.ReservationRow row : dataset.reservations()) {
+            if (SeatIntervalIndex.OCCUPYING_STATUSES.contains(row.status())) {
+                availabilityBitmap.refresh(row.seatId(), row.start(), row.end());
+            }
+        }
+        futureRows = dataset.reservations().stream()
+                .filter(row -> SeatIntervalIndex.OCCUPYING_STATUSES.contains(row.status()))
+                .toList();
+    }
+
+    // 예약 생성 시 좌석 중복 판정
+    @Benchmark
+    public boolean bookingChecks() {
+        long seatId = random.nextInt(seats) + 1;
+        LocalDateTime start = LocalDate.now().plusDays(1 + random.nextInt(7)).atTime(9 + random.nextInt(8), 30);
+        LocalDateTime end = start.plusHours(1);
+        Map<LocalDate, long[]> window = SeatAvailabilityBitmap.masksOf(start, end);
+        return !availabilityBitmap.mayOverlap(seatId, window) || !intervalIndex.overlaps(seatId, start, end, null);
+    }
+
+    // 한 층(200석)의 예약 가능 좌석 판정
+    @Benchmark
+    public int availableSeatsOnFloor() {
+        LocalDateTime start = LocalDate.now().plusDays(1 + random.nextInt(7)).atTime(9 + random.nextInt(8), 0);
+        LocalDateTime end = start.plusHours(2);
+        Map<LocalDate, long[]> window = SeatAvailabilityBitmap.masksOf(start, end);
+        long first = (long) random.nextInt(Math.max(1, seats / SyntheticDataset.SEATS_PER_FLOOR)) * SyntheticDataset.SEATS_PER_FLOOR + 1;
+        int free = 0;
+        for (long seatId = first; seatId < first + SyntheticDataset.SEATS_PER_FLOOR && seatId <= seats; seatId++) {
+            if (!availabilityBitmap.mayOverlap(seatId, window) || !intervalIndex.overlaps(seatId, start, end, null)) {
+                free++;
+            }
+        }
+        return free;
+    }
+
+    // 예약 연장 시 같은 좌석 중복(자기 자신 제외) 판정
+    @Benchmark
+    public boolean extensionChecks() {
+        if (futureRows.isEmpty()) {
+            return false;
+        }
+        SyntheticData.ReservationRow row = futureRows.get(random.nextInt(futureRows.size()));
+        LocalDateTime newEnd = row.end().plusHours(1);
+        return intervalIndex.overlaps(row.seatId(), row.end(), newEnd, row.id());
+    }
+}
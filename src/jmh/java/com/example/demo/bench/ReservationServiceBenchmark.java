@@ -0,0 +1,164 @@
+package com.example.demo.bench;
+
+import com.example.demo.dto.ReservationRequest;
+import com.example.demo.dto.ReservationResponse;
+import com.example.demo.entity.Reservation;
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.index.SeatDayOccupancyIndex;
+import com.example.demo.repository.ReservationRepository;
+import com.example.demo.repository.SeatRepository;
+import com.example.demo.service.ReservationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+// Spring 컨텍스트(H2) 위에서 ReservationService 의 주요 경로를 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ReservationServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int seats;
+
+    @Param({"100000", "1000000"})
+    public int reservations;
+
+    ConfigurableApplicationContext context;
+    ReservationService reservationService;
+    ReservationRepository reservationRepository;
+    SeatRepository seatRepository;
+    SeatDayOccupancyIndex occupancyIndex;
+    TransactionTemplate transactionTemplate;
+    SyntheticDataset dataset;
+
+    // 8시간 제한에 걸리지 않도록 생성/연장 측정에는 매번 새 임직원 id 사용
+    final AtomicLong nextEmployeeId = new AtomicLong(10_000_000L);
+    final SplittableRandom random = new SplittableRandom(SyntheticDataset.SEED);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataset = SyntheticDataset.generate(seats, reservations, SyntheticDataset.SEED);
+        context = BenchContext.start(dataset);
+        reservationService = context.getBean(ReservationService.class);
+        reservationRepository = context.getBean(ReservationRepository.class);
+        seatRepository = context.getBean(SeatRepository.class);
+        occupancyIndex = context.getBean(SeatDayOccupancyIndex.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // 합성 데이터의 미래 예약(정각 시작 50분)과 일부 겹치는 구간으로 예약 생성 (승인/거절 혼합)
+    @Benchmark
+    public void createReservation(Blackhole bh) {
+        ReservationRequest req = new ReservationRequest();
+        req.employeeId = nextEmployeeId.incrementAndGet();
+        req.seatId = (long) random.nextInt(seats) + 1;
+        req.startTime = LocalDate.now().plusDays(1 + random.nextInt(14)).atTime(9 + random.nextInt(8), 30);
+        req.endTime = req.startTime.plusHours(1);
+        try {
+            bh.consume(reservationService.createReservation(req));
+        } catch (IllegalArgumentException e) {
+            bh.consume(e);
+        }
+    }
+
+    // 한 층(200석)의 예약 가능 좌석 조회
+    @Benchmark
+    public List<Long> getAvailableSeats() {
+        long first = (long) random.nextInt(Math.max(1, seats / SyntheticDataset.SEATS_PER_FLOOR)) * SyntheticDataset.SEATS_PER_FLOOR + 1;
+        List<Long> floorSeatIds = LongStream.range(first, Math.min(first + SyntheticDataset.SEATS_PER_FLOOR, seats + 1L))
+                .boxed()
+                .toList();
+        LocalDateTime start = LocalDate.now().plusDays(1 + random.nextInt(7)).atTime(9 + random.nextInt(8), 0);
+        return reservationService.getAvailableSeats(start, start.plusHours(2), floorSeatIds, 0, 50);
+    }
+
+    // 임직원 한 명의 최근 90일 이력 조회
+    @Benchmark
+    public List<ReservationResponse> getReservationHistory() {
+        long employeeId = random.nextInt(dataset.employeeCount()) + 1;
+        LocalDateTime end = LocalDate.now().atStartOfDay();
+        return reservationService.getReservationHistory(employeeId, end.minusDays(90), end, 0, 20);
+    }
+
+    // 매 호출마다 연장 대상 IN_USE 예약을 새로 만들고, 호출 후 두 예약을 COMPLETED 로 정리
+    // 합성 데이터의 예약(9시~17시)과 겹치지 않도록 내일 새벽 구간을 사용
+    @State(Scope.Thread)
+    public static class ExtensionTarget {
+        Reservation reservation;
+        ReservationResponse extended;
+
+        @Setup(Level.Invocation)
+        public void prepare(ReservationServiceBenchmark bench) {
+            LocalDateTime start = LocalDate.now().plusDays(1).atTime(1, 0);
+            Reservation r = new Reservation();
+            r.setEmployeeId(bench.nextEmployeeId.incrementAndGet());
+            Long seatId = (long) bench.random.nextInt(bench.seats) + 1;
+            r.setSeat(bench.seatRepository.getReferenceById(seatId));
+            r.setSeatId(seatId);
+            r.setStartTime(start);
+            r.setEndTime(start.plusHours(1));
+            r.setStatus(ReservationStatus.IN_USE);
+            r.setCreatedAt(LocalDateTime.now());
+            reservation = bench.transactionTemplate.execute(status -> {
+                bench.occupancyIndex.occupy(seatId, r.getStartTime(), r.getEndTime());
+                return bench.reservationRepository.save(r);
+            });
+            bench.context.publishEvent(ReservationChangedEvent.of(reservation, null));
+            extended = null;
+        }
+
+        @TearDown(Level.Invocation)
+        public void cleanUp(ReservationServiceBenchmark bench) {
+            complete(bench, reservation);
+            if (extended != null) {
+                bench.reservationRepository.findById(extended.id).ifPresent(r -> complete(bench, r));
+            }
+        }
+
+        private static void complete(ReservationServiceBenchmark bench, Reservation r) {
+            bench.transactionTemplate.executeWithoutResult(status -> bench.reservationRepository.transitionByIds(
+                    List.of(r.getId()), ReservationStatus.IN_USE, ReservationStatus.COMPLETED));
+            r.setStatus(ReservationStatus.COMPLETED);
+            bench.context.publishEvent(ReservationChangedEvent.of(r, ReservationStatus.IN_USE));
+        }
+    }
+
+    @Benchmark
+    public ReservationResponse extendReservation(ExtensionTarget target) {
+        Reservation r = target.reservation;
+        target.extended = reservationService.extendReservation(r.getId(), r.getEndTime().plusHours(1), r.getEmployeeId());
+        return target.extended;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.demo.bench;
+
+import com.example.demo.batch.ReservationBatchService;
+import com.example.demo.entity.ReservationStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// ReservationBatchService 의 주기 점검 배치를 한 번씩 실행해 측정 (SingleShotTime)
+// 매 실행 전에 전이 대상 예약 dueRows 건을 JDBC 로 넣어 둠 (0 이면 대상이 없을 때의 점검 비용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ReservationSweepBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int seats;
+
+    @Param({"100000", "1000000"})
+    public int reservations;
+
+    @Param({"0", "1000"})
+    public int dueRows;
+
+    ConfigurableApplicationContext context;
+    ReservationBatchService batchService;
+    JdbcTemplate jdbc;
+    // 합성 데이터 id 와 겹치지 않는 대역
+    long nextId = 900_000_000L;
+    final SplittableRandom random = new SplittableRandom(SyntheticDataset.SEED);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchContext.start(SyntheticDataset.generate(seats, reservations, SyntheticDataset.SEED));
+        batchService = context.getBean(ReservationBatchService.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    void insertDue(ReservationStatus status, LocalDateTime start, LocalDateTime end) {
+        List<Object[]> rows = new ArrayList<>(dueRows);
+        for (int i = 0; i < dueRows; i++) {
+            rows.add(new Object[]{nextId++, 20_000_000L + i, (long) random.nextInt(seats) + 1,
+                    Timestamp.valueOf(start), Timestamp.valueOf(end), status.name(), Timestamp.valueOf(start.minusDays(1))});
+        }
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate("insert into reservation (id, employee_id, seat_id, start_time, end_time, status, created_at) "
+                    + "values (?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DuePending {
+        @Setup(Level.Invocation)
+        public void insert(ReservationSweepBenchmark bench) {
+            LocalDateTime start = LocalDateTime.now().minusMinutes(1);
+            bench.insertDue(ReservationStatus.PENDING, start, start.plusHours(1));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DueNoShow {
+        @Setup(Level.Invocation)
+        public void insert(ReservationSweepBenchmark bench) {
+            LocalDateTime start = LocalDateTime.now().minusMinutes(ReservationBatchService.NO_SHOW_GRACE_MINUTES + 1);
+            bench.insertDue(ReservationStatus.RESERVED, start, start.plusHours(1));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class DueCompletion {
+        @Setup(Level.Invocation)
+        public void insert(ReservationSweepBenchmark bench) {
+            LocalDateTime end = LocalDateTime.now().minusMinutes(1);
+            bench.insertDue(ReservationStatus.IN_USE, end.minusHours(1), end);
+        }
+    }
+
+    @Benchmark
+    public int updatePendingToReserved(DuePending due) {
+        return batchService.updatePendingToReserved();
+    }
+
+    @Benchmark
+    public int updateReservedToNoShow(DueNoShow due) {
+        return batchService.updateReservedToNoShow();
+    }
+
+    @Benchmark
+    public int updateInUseToCompleted(DueCompletion due) {
+        return batchService.updateInUseToCompleted();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.bench;
+
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.synthetic.SyntheticData;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 벤치마크용 합성 데이터 (같은 seed 면 항상 같은 데이터)
+// 좌석마다 하루 9시~17시의 1시간 슬롯을 차례로 채우므로 같은 좌석의 예약끼리는 겹치지 않는다.
+// 오늘은 비워 두고, 과거 일자는 종료 상태, 미래 일자는 PENDING 으로 만든다.
+public final class SyntheticDataset {
+    public static final long SEED = 20240601L;
+    public static final int SEATS_PER_FLOOR = 200;
+    public static final int FLOORS_PER_BUILDING = 10;
+    private static final int SLOTS_PER_DAY = 8;
+    private static final int FIRST_HOUR = 9;
+
+    private final int seatCount;
+    private final int employeeCount;
+    private final List<SyntheticData.ReservationRow> reservations;
+
+    private SyntheticDataset(int seatCount, int employeeCount, List<SyntheticData.ReservationRow> reservations) {
+        this.seatCount = seatCount;
+        this.employeeCount = employeeCount;
+        this.reservations = reservations;
+    }
+
+    public static SyntheticDataset generate(int seats, int reservations, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int employees = Math.max(1_000, reservations / 200);
+        int slotsPerSeat = (reservations + seats - 1) / seats;
+        int days = Math.max(2, (slotsPerSeat + SLOTS_PER_DAY - 1) / SLOTS_PER_DAY);
+        int futureDays = Math.max(1, days / 10);
+        LocalDate today = LocalDate.now();
+        LocalDateTime createdAt = LocalDateTime.now();
+
+        List<SyntheticData.ReservationRow> rows = new ArrayList<>(reservations);
+        for (int i = 0; i < reservations; i++) {
+            long seatId = (i % seats) + 1;
+            int slot = i / seats;
+            int dayIndex = slot / SLOTS_PER_DAY;
+            // 과거 (days - futureDays) 일, 미래 futureDays 일 (오늘 제외)
+            int offset = dayIndex < days - futureDays ? dayIndex - (days - futureDays) : dayIndex - (days - futureDays) + 1;
+            LocalDateTime start = today.plusDays(offset).atTime(FIRST_HOUR + slot % SLOTS_PER_DAY, 0);
+            ReservationStatus status = offset > 0 ? ReservationStatus.PENDING : pastStatus(random);
+            long employeeId = random.nextInt(employees) + 1;
+            rows.add(new SyntheticData.ReservationRow(i + 1L, employeeId, seatId, start, start.plusMinutes(50), status,
+                    status == ReservationStatus.COMPLETED ? start : null, createdAt));
+        }
+        return new SyntheticDataset(seats, employees, rows);
+    }
+
+    // 과거 예약 상태 분포 (완료 70%, 취소 13%, 노쇼 12%, 강제 취소 5%)
+    private static ReservationStatus pastStatus(SplittableRandom random) {
+        int p = random.nextInt(100);
+        if (p < 70) {
+            return ReservationStatus.COMPLETED;
+        }
+        if (p < 83) {
+            return ReservationStatus.CANCELLED;
+        }
+        if (p < 95) {
+            return ReservationStatus.NO_SHOW;
+        }
+        return ReservationStatus.FORCED_CANCEL;
+    }
+
+    public int seatCount() {
+        return seatCount;
+    }
+
+    public int employeeCount() {
+        return employeeCount;
+    }
+
+    public List<SyntheticData.ReservationRow> reservations() {
+        return reservations;
+    }
+
+    // 적재용 데이터 (층당 SEATS_PER_FLOOR 석, 빌딩당 FLOORS_PER_BUILDING 층)
+    public SyntheticData toData() {
+        int floors = (seatCount + SEATS_PER_FLOOR - 1) / SEATS_PER_FLOOR;
+        int buildings = (floors + FLOORS_PER_BUILDING - 1) / FLOORS_PER_BUILDING;
+
+        List<SyntheticData.BuildingRow> buildingRows = new ArrayList<>();
+        for (long b = 1; b <= buildings; b++) {
+            buildingRows.add(new SyntheticData.BuildingRow(b, "Building " + b, "Address " + b));
+        }
+        List<SyntheticData.FloorRow> floorRows = new ArrayList<>();
+        for (long f = 1; f <= floors; f++) {
+            floorRows.add(new SyntheticData.FloorRow(f, (f - 1) / FLOORS_PER_BUILDING + 1, (int) ((f - 1) % FLOORS_PER_BUILDING) + 1));
+        }
+        List<SyntheticData.SeatRow> seatRows = new ArrayList<>(seatCount);
+        for (long s = 1; s <= seatCount; s++) {
+            seatRows.add(new SyntheticData.SeatRow(s, (s - 1) / SEATS_PER_FLOOR + 1, "S-" + s, SeatStatus.AVAILABLE));
+        }
+        return new SyntheticData(buildingRows, floorRows, seatRows, reservations);
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// 로컬 부하 측정기: 실행 중인 애플리케이션(synthetic 프로필로 적재)에 정해진 작업 비율로 요청을 보내고
+// 작업별 처리량과 지연 백분위를 표와 JSON 으로 남긴다. 외부 서비스 없이 JDK HttpClient 만 사용.
+//
+// ./gradlew bootRun --args='--spring.profiles.active=synthetic'
+// ./gradlew loadTest -Ploadtest.durationSeconds=120 -Ploadtest.mix=booking=60,availability=40
+//
+// 작업 (mix 의 이름):
+//   booking       내일 오전 8~10시 시작 예약 등록 (출근 시간대 몰림)
+//   checkin       임직원 예약 현황 조회 후 RESERVED 예약이 있으면 체크인
+//   availability  한 층 좌석의 예약 가능 여부 조회
+//   history       최근 30일 예약 이력 조회
+//   admin         관리자 좌석 현황 조회
+public final class LoadTestHarness {
+    private static final String DEFAULT_MIX = "booking=40,checkin=15,availability=30,history=10,admin=5";
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final long employees;
+    private final Path reportPath;
+    private final Map<String, Integer> mix;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final Map<String, OperationStats> stats = new LinkedHashMap<>();
+    // 층별 좌석 id (예약/가능 좌석 조회 대상)와 같은 순서의 층 조회 조건 (관리자 좌석 현황 조회 대상)
+    private final List<List<Long>> floorSeatIds = new ArrayList<>();
+    private final List<String> floorQueries = new ArrayList<>();
+    private volatile boolean recording;
+
+    private LoadTestHarness() {
+        baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        concurrency = Integer.getInteger("loadtest.concurrency", 64);
+        warmup = Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 10L));
+        duration = Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 60L));
+        employees = Long.getLong("loadtest.employees", 1_200L);
+        reportPath = Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/results.json"));
+        mix = parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX));
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        for (String operation : mix.keySet()) {
+            stats.put(operation, new OperationStats(operation));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestHarness().run();
+    }
+
+    private void run() throws Exception {
+        discoverSeats();
+        System.out.printf("Load test: %s, %d workers, %ds warm-up + %ds, mix %s, %d floors%n",
+                baseUrl, concurrency, warmup.toSeconds(), duration.toSeconds(), mix, floorSeatIds.size());
+
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> work(end));
+            }
+            sleepUntil(warmupEnd);
+            recording = true;
+            sleepUntil(end);
+        }
+        report(duration.toMillis() / 1000.0);
+    }
+
+    // 빌딩 -> 층 -> 좌석 현황을 따라가 층별 좌석 id 를 수집
+    private void discoverSeats() throws IOException, InterruptedException {
+        for (JsonNode building : getJson("/api/seats/buildings")) {
+            long buildingId = building.get("id").asLong();
+            for (JsonNode floor : getJson("/api/floors/building/" + buildingId)) {
+                JsonNode seatMap = getJson("/api/seats/building/" + buildingId + "/floor/" + floor.get("floor").asInt() + "/seats");
+                List<Long> seatIds = new ArrayList<>();
+                for (JsonNode seat : seatMap.get("seats")) {
+                    seatIds.add(seat.get("seatId").asLong());
+                }
+                if (!seatIds.isEmpty()) {
+                    floorSeatIds.add(seatIds);
+                    floorQueries.add("buildingId=" + buildingId + "&floor=" + floor.get("floor").asInt());
+                }
+            }
+        }
+        if (floorSeatIds.isEmpty()) {
+            throw new IllegalStateException("좌석이 없습니다. synthetic 프로필로 데이터를 적재한 뒤 실행하세요.");
+        }
+    }
+
+    private void work(long end) {
+        List<String> operations = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < end) {
+            String operation = operations.get(random.nextInt(operations.size()));
+            long startedAt = System.nanoTime();
+            int status;
+            try {
+                status = execute(operation, random);
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (recording && status != 0) {
+                stats.get(operation).record(status, (System.nanoTime() - startedAt) / 1_000);
+            }
+        }
+    }
+
+    // 응답 코드 (0 이면 요청 없이 건너뜀)
+    private int execute(String operation, ThreadLocalRandom random) throws IOException, InterruptedException {
+        long employeeId = random.nextLong(employees) + 1;
+        int floorIndex = random.nextInt(floorSeatIds.size());
+        List<Long> floor = floorSeatIds.get(floorIndex);
+        switch (operation) {
+            case "booking": {
+                LocalDateTime start = LocalDate.now().plusDays(1).atTime(8 + random.nextInt(3), random.nextBoolean() ? 0 : 30);
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("employeeId", employeeId);
+                body.put("seatId", floor.get(random.nextInt(floor.size())));
+                body.put("startTime", start);
+                body.put("endTime", start.plusHours(1 + random.nextInt(3)));
+                return send(HttpRequest.newBuilder(uri("/api/reservations"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body))));
+            }
+            case "checkin": {
+                HttpResponse<byte[]> mine = client.send(HttpRequest.newBuilder(uri("/api/reservations/employee/" + employeeId)).GET().build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+                if (mine.statusCode() != 200) {
+                    return mine.statusCode();
+                }
+                for (JsonNode reservation : mapper.readTree(mine.body())) {
+                    if ("RESERVED".equals(reservation.path("status").asText())) {
+                        return send(HttpRequest.newBuilder(uri("/api/reservations/" + reservation.get("id").asLong()
+                                + "/checkin?employeeId=" + employeeId)).POST(HttpRequest.BodyPublishers.noBody()));
+                    }
+                }
+                return mine.statusCode();
+            }
+            case "availability": {
+                LocalDateTime start = LocalDate.now().plusDays(1 + random.nextInt(7)).atTime(8 + random.nextInt(9), 0);
+                String seatIds = floor.stream().map(String::valueOf).collect(Collectors.joining(","));
+                return send(HttpRequest.newBuilder(uri("/api/reservations/available-seats?start=" + start + "&end="
+                        + start.plusHours(2) + "&seatIds=" + seatIds + "&limit=50")).GET());
+            }
+            case "history": {
+                LocalDateTime end = LocalDate.now().plusDays(1).atStartOfDay();
+                return send(HttpRequest.newBuilder(uri("/api/reservations/history?employeeId=" + employeeId + "&start="
+                        + end.minusDays(30) + "&end=" + end + "&limit=20")).GET());
+            }
+            case "admin":
+                return send(HttpRequest.newBuilder(uri("/api/admin/seat-status?" + floorQueries.get(floorIndex))).GET());
+            default:
+                return 0;
+        }
+    }
+
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(path + " 응답 코드 " + response.statusCode());
+        }
+        return mapper.readTree(response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private void report(double seconds) throws IOException {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        System.out.printf("%n%-14s %9s %8s %8s %8s %8s %10s %9s %9s %9s %9s%n",
+                "operation", "count", "2xx", "4xx", "5xx", "failed", "ops/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (OperationStats operation : stats.values()) {
+            Map<String, Object> row = operation.summary(seconds);
+            rows.add(row);
+            System.out.printf("%-14s %9d %8d %8d %8d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    row.get("operation"), row.get("count"), row.get("2xx"), row.get("4xx"), row.get("5xx"), row.get("failed"),
+                    row.get("opsPerSecond"), row.get("p50Millis"), row.get("p90Millis"), row.get("p99Millis"), row.get("maxMillis"));
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("baseUrl", baseUrl);
+        result.put("startedAt", LocalDateTime.now().minusSeconds((long) seconds));
+        result.put("durationSeconds", seconds);
+        result.put("concurrency", concurrency);
+        result.put("mix", mix);
+        result.put("operations", rows);
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(reportPath.toFile(), result);
+        System.out.println("Report: " + reportPath.toAbsolutePath());
+    }
+
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 형식이 잘못되었습니다: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(pair[0].trim(), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix 에 실행할 작업이 없습니다.");
+        }
+        return mix;
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining;
+        while ((remaining = System.nanoTime() - nanoTime) < 0) {
+            Thread.sleep(Math.min(1_000, -remaining / 1_000_000 + 1));
+        }
+    }
+}
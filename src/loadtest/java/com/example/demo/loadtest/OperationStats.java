@@ -0,0 +1,103 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// 작업 하나의 응답 코드별 건수와 지연 시간 분포
+// 지연은 마이크로초 단위 로그 구간(2 배 구간마다 16 칸) 히스토그램으로 모아 잠금 없이 기록
+final class OperationStats {
+    private static final int SUB_BUCKETS = 16;
+    private static final int MAGNITUDES = 40;
+
+    private final String name;
+    private final LongAdder[] buckets = new LongAdder[MAGNITUDES * SUB_BUCKETS];
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientError = new LongAdder();
+    private final LongAdder serverError = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    OperationStats(String name) {
+        this.name = name;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    String name() {
+        return name;
+    }
+
+    // status < 0 이면 연결 실패/타임아웃
+    void record(int status, long micros) {
+        if (status < 0) {
+            failed.increment();
+        } else if (status >= 500) {
+            serverError.increment();
+        } else if (status >= 400) {
+            clientError.increment();
+        } else {
+            success.increment();
+        }
+        buckets[bucketOf(micros)].increment();
+        maxMicros.accumulate(micros);
+    }
+
+    long count() {
+        return success.sum() + clientError.sum() + serverError.sum() + failed.sum();
+    }
+
+    Map<String, Object> summary(double seconds) {
+        long[] counts = Arrays.stream(buckets).mapToLong(LongAdder::sum).toArray();
+        long total = Arrays.stream(counts).sum();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("operation", name);
+        summary.put("count", total);
+        summary.put("2xx", success.sum());
+        summary.put("4xx", clientError.sum());
+        summary.put("5xx", serverError.sum());
+        summary.put("failed", failed.sum());
+        summary.put("opsPerSecond", seconds > 0 ? Math.round(total / seconds * 10) / 10.0 : 0.0);
+        summary.put("p50Millis", percentile(counts, total, 0.50));
+        summary.put("p90Millis", percentile(counts, total, 0.90));
+        summary.put("p99Millis", percentile(counts, total, 0.99));
+        summary.put("maxMillis", maxMicros.get() / 1000.0);
+        return summary;
+    }
+
+    private static double percentile(long[] counts, long total, double q) {
+        if (total == 0) {
+            return 0.0;
+        }
+        long rank = (long) Math.ceil(total * q);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBoundOf(i) / 1000.0;
+            }
+        }
+        return upperBoundOf(counts.length - 1) / 1000.0;
+    }
+
+    private static int bucketOf(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(0, micros);
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros) - 4;
+        int sub = (int) (micros >> magnitude) - SUB_BUCKETS;
+        return Math.min(MAGNITUDES * SUB_BUCKETS - 1, (magnitude + 1) * SUB_BUCKETS + sub);
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int magnitude = bucket / SUB_BUCKETS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        return ((long) (sub + SUB_BUCKETS + 1) << magnitude) - 1;
+    }
+}
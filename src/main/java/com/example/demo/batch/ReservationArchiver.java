@@ -0,0 +1,108 @@
+package com.example.demo.batch;
+
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.metrics.ReservationMetrics;
+import com.example.demo.metrics.ReservationStatusGauges;
+import com.example.demo.repository.ReservationArchiveRepository;
+import com.example.demo.repository.ReservationRepository;
+import com.example.demo.repository.SeatDayOccupancyRepository;
+import com.example.demo.service.ReservationArchiveReader;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// 보관 기간이 지난 종료 예약을 reservation_archive 로 옮기는 주기 작업 (기본 1시간마다)
+// chunk 마다 별도 트랜잭션에서 복사 후 삭제하므로 한 번에 오래 잠그지 않는다.
+// 보관 이력 조회와 보관 경계는 ReservationArchiveReader 가 가짐
+@Component
+public class ReservationArchiver {
+    private static final Logger log = LoggerFactory.getLogger(ReservationArchiver.class);
+
+    // 더 이상 상태가 바뀌지 않는 예약
+    public static final Set<ReservationStatus> TERMINAL_STATUSES = EnumSet.of(
+            ReservationStatus.COMPLETED, ReservationStatus.CANCELLED, ReservationStatus.NO_SHOW,
+            ReservationStatus.FORCED_CANCEL, ReservationStatus.FAIL);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository archiveRepository;
+    private final SeatDayOccupancyRepository occupancyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ReservationMetrics metrics;
+    private final ReservationStatusGauges statusGauges;
+    private final ReservationArchiveReader archiveReader;
+    private final int retentionDays;
+    private final int chunkSize;
+
+    public ReservationArchiver(ReservationRepository reservationRepository, ReservationArchiveRepository archiveRepository,
+                               SeatDayOccupancyRepository occupancyRepository, PlatformTransactionManager transactionManager,
+                               ReservationMetrics metrics, ReservationStatusGauges statusGauges,
+                               ReservationArchiveReader archiveReader,
+                               @Value("${reservation.archive.retention-days:90}") int retentionDays,
+                               @Value("${reservation.archive.chunk-size:1000}") int chunkSize) {
+        // 1일 8시간 제한 검사(하루 전 시작분까지 읽음)와 이력 조회 경계가 보관 대상과 겹치지 않도록 최소 1일 보관
+        if (retentionDays < 1) {
+            throw new IllegalArgumentException("보관 기간은 1일 이상이어야 합니다.");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("보관 chunk 크기는 1 이상이어야 합니다.");
+        }
+        this.reservationRepository = reservationRepository;
+        this.archiveRepository = archiveRepository;
+        this.occupancyRepository = occupancyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.metrics = metrics;
+        this.statusGauges = statusGauges;
+        this.archiveReader = archiveReader;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.archive.interval-ms:3600000}",
+            initialDelayString = "${reservation.archive.interval-ms:3600000}")
+    @Timed(value = "reservation.sweep", extraTags = {"job", "archive"}, histogram = true)
+    public int archive() {
+        LocalDateTime cutoff = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+        // 행을 옮기기 전에 경계를 넓혀, 옮기는 도중의 이력 조회도 보관 테이블을 함께 읽도록 함
+        archiveReader.advanceBoundary(cutoff);
+        LocalDateTime archivedAt = LocalDateTime.now();
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        int archived = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> {
+                List<Long> ids = reservationRepository.findArchivableIds(TERMINAL_STATUSES, cutoff, chunk);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                archiveRepository.copyFromReservations(ids, archivedAt);
+                reservationRepository.deleteByIds(ids);
+                return ids.size();
+            });
+            archived += moved;
+        } while (moved == chunkSize);
+
+        // 보관 기간이 지난 일자의 좌석 점유 마스크 정리 (예약 검사는 미래 일자만 읽음)
+        transactionTemplate.executeWithoutResult(status -> occupancyRepository.deleteBySlotDateBefore(cutoff.toLocalDate()));
+
+        if (archived > 0) {
+            metrics.archived(archived);
+            // 이벤트 없이 reservation 에서 빠진 행을 상태별 건수에 반영
+            statusGauges.resync();
+            log.info("Archived {} reservations ended before {}", archived, cutoff);
+        }
+        return archived;
+    }
+}
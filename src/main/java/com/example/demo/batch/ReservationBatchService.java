@@ -2,59 +2,168 @@ package com.example.demo.batch;
 
 import com.example.demo.entity.Reservation;
 import com.example.demo.entity.ReservationStatus;
+import com.example.demo.entity.Seat;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.event.SeatStatusChangedEvent;
+import com.example.demo.metrics.ReservationMetrics;
 import com.example.demo.repository.ReservationRepository;
+import com.example.demo.repository.SeatRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 public class ReservationBatchService {
+    // 시작 후 체크인 대기 시간 (분)
+    public static final int NO_SHOW_GRACE_MINUTES = 10;
+
     private final ReservationRepository reservationRepository;
+    private final SeatRepository seatRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationMetrics metrics;
 
-    public ReservationBatchService(ReservationRepository reservationRepository) {
+    public ReservationBatchService(ReservationRepository reservationRepository, SeatRepository seatRepository,
+                                   ApplicationEventPublisher eventPublisher, ReservationMetrics metrics) {
         this.reservationRepository = reservationRepository;
+        this.seatRepository = seatRepository;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+    }
+
+    // 마감 시각이 도래한 전이 실행 (ReservationTransitionScheduler 에서 호출)
+    // 같은 전이끼리 묶어 한 번의 UPDATE 로 처리
+    @Transactional
+    @Timed(value = "reservation.sweep", extraTags = {"job", "deadline"}, histogram = true)
+    public int applyTransitions(Collection<ReservationTransitionScheduler.Deadline> deadlines) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Reservation> reservations = reservationRepository.findByIdIn(
+                        deadlines.stream().map(ReservationTransitionScheduler.Deadline::reservationId).toList())
+                .stream()
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+        Map<ReservationStatus, List<Reservation>> byTarget = new EnumMap<>(ReservationStatus.class);
+        for (ReservationTransitionScheduler.Deadline deadline : deadlines) {
+            Reservation r = reservations.get(deadline.reservationId());
+            if (r != null && r.getStatus() == deadline.from() && isDue(r, deadline.to(), now)) {
+                byTarget.computeIfAbsent(deadline.to(), to -> new ArrayList<>()).add(r);
+            }
+        }
+        int updated = 0;
+        for (Map.Entry<ReservationStatus, List<Reservation>> entry : byTarget.entrySet()) {
+            List<Reservation> cohort = entry.getValue();
+            ReservationStatus from = cohort.get(0).getStatus();
+            List<Long> ids = cohort.stream().map(Reservation::getId).toList();
+            updated += entry.getKey() == ReservationStatus.COMPLETED
+                    ? reservationRepository.completeByIds(ids, from, entry.getKey())
+                    : reservationRepository.transitionByIds(ids, from, entry.getKey());
+            publishTransitions(cohort, from, entry.getKey());
+            if (entry.getKey() == ReservationStatus.COMPLETED) {
+                releaseSeats(cohort);
+            }
+        }
+        metrics.transitioned("deadline", updated);
+        return updated;
+    }
+
+    private boolean isDue(Reservation r, ReservationStatus target, LocalDateTime now) {
+        return switch (target) {
+            case RESERVED -> !r.getStartTime().isAfter(now);
+            case NO_SHOW -> r.getCheckInAt() == null && !r.getStartTime().plusMinutes(NO_SHOW_GRACE_MINUTES).isAfter(now);
+            case COMPLETED -> !r.getEndTime().isAfter(now);
+            default -> false;
+        };
+    }
+
+    // 일괄 갱신된 예약의 상태 변경 이벤트 발행 (엔티티는 일괄 갱신 후 준영속 상태)
+    private void publishTransitions(List<Reservation> cohort, ReservationStatus from, ReservationStatus to) {
+        for (Reservation r : cohort) {
+            r.setStatus(to);
+            if (to == ReservationStatus.COMPLETED) {
+                r.setCompletedAt(r.getEndTime());
+            }
+            eventPublisher.publishEvent(ReservationChangedEvent.of(r, from));
+        }
+    }
+
+    // 자동 종료된 예약의 좌석 중 다른 사용 중 예약이 없는 좌석을 AVAILABLE로 되돌림
+    private void releaseSeats(List<Reservation> completed) {
+        Map<Long, Long> reservationIdBySeat = new HashMap<>();
+        for (Reservation r : completed) {
+            reservationIdBySeat.put(r.getSeatId(), r.getId());
+        }
+        List<Seat> seats = seatRepository.lockReleasableByIdIn(
+                reservationIdBySeat.keySet(), SeatStatus.UNAVAILABLE, ReservationStatus.IN_USE);
+        if (seats.isEmpty()) {
+            return;
+        }
+        seatRepository.transitionByIds(seats.stream().map(Seat::getId).toList(), SeatStatus.UNAVAILABLE, SeatStatus.AVAILABLE);
+        for (Seat seat : seats) {
+            seat.setStatus(SeatStatus.AVAILABLE);
+            eventPublisher.publishEvent(SeatStatusChangedEvent.of(seat, SeatStatus.UNAVAILABLE, reservationIdBySeat.get(seat.getId())));
+        }
     }
 
-    // 1분마다 실행 (예시)
-    @Scheduled(fixedRate = 60000)
+    // 아래 배치는 누락된 전이를 보정하는 주기 점검 (기본 10분마다 실행)
+    // 대상 행을 잠근 뒤 같은 조건의 UPDATE 한 번으로 전이하고, 전이된 행 수를 반환
+    @Scheduled(fixedDelayString = "${reservation.batch.sweep-interval-ms:600000}")
     @Transactional
-    public void updatePendingToReserved() {
-        List<Reservation> pendings = reservationRepository.findAll().stream()
-                .filter(r -> r.getStatus() == ReservationStatus.PENDING)
-                .filter(r -> r.getStartTime().isBefore(LocalDateTime.now()))
-                .toList();
-        for (Reservation r : pendings) {
-            r.setStatus(ReservationStatus.RESERVED);
-            reservationRepository.save(r);
+    @Timed(value = "reservation.sweep", extraTags = {"job", "pending_to_reserved"}, histogram = true)
+    public int updatePendingToReserved() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        List<Reservation> pendings = reservationRepository.findByStatusAndStartTimeBefore(ReservationStatus.PENDING, cutoff);
+        if (pendings.isEmpty()) {
+            return 0;
         }
+        int updated = reservationRepository.transitionByStartTimeBefore(
+                ReservationStatus.PENDING, ReservationStatus.RESERVED, cutoff);
+        publishTransitions(pendings, ReservationStatus.PENDING, ReservationStatus.RESERVED);
+        metrics.transitioned("pending_to_reserved", updated);
+        return updated;
     }
 
-    @Scheduled(fixedRate = 60000)
+    @Scheduled(fixedDelayString = "${reservation.batch.sweep-interval-ms:600000}")
     @Transactional
-    public void updateReservedToNoShow() {
-        List<Reservation> reserved = reservationRepository.findAll().stream()
-                .filter(r -> r.getStatus() == ReservationStatus.RESERVED)
-                .filter(r -> r.getStartTime().plusMinutes(10).isBefore(LocalDateTime.now()) && r.getCheckInAt() == null)
-                .toList();
-        for (Reservation r : reserved) {
-            r.setStatus(ReservationStatus.NO_SHOW);
-            reservationRepository.save(r);
+    @Timed(value = "reservation.sweep", extraTags = {"job", "reserved_to_no_show"}, histogram = true)
+    public int updateReservedToNoShow() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(NO_SHOW_GRACE_MINUTES);
+        List<Reservation> reserved = reservationRepository.findByStatusAndStartTimeBeforeAndCheckInAtIsNull(
+                ReservationStatus.RESERVED, cutoff);
+        if (reserved.isEmpty()) {
+            return 0;
         }
+        int updated = reservationRepository.transitionUncheckedByStartTimeBefore(
+                ReservationStatus.RESERVED, ReservationStatus.NO_SHOW, cutoff);
+        publishTransitions(reserved, ReservationStatus.RESERVED, ReservationStatus.NO_SHOW);
+        metrics.transitioned("reserved_to_no_show", updated);
+        return updated;
     }
 
-    @Scheduled(fixedRate = 60000)
+    @Scheduled(fixedDelayString = "${reservation.batch.sweep-interval-ms:600000}")
     @Transactional
-    public void updateInUseToCompleted() {
-        List<Reservation> inUse = reservationRepository.findAll().stream()
-                .filter(r -> r.getStatus() == ReservationStatus.IN_USE)
-                .filter(r -> r.getEndTime().isBefore(LocalDateTime.now()))
-                .toList();
-        for (Reservation r : inUse) {
-            r.setStatus(ReservationStatus.COMPLETED);
-            reservationRepository.save(r);
+    @Timed(value = "reservation.sweep", extraTags = {"job", "in_use_to_completed"}, histogram = true)
+    public int updateInUseToCompleted() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        List<Reservation> inUse = reservationRepository.findByStatusAndEndTimeBefore(ReservationStatus.IN_USE, cutoff);
+        if (inUse.isEmpty()) {
+            return 0;
         }
+        int updated = reservationRepository.completeByEndTimeBefore(
+                ReservationStatus.IN_USE, ReservationStatus.COMPLETED, cutoff);
+        publishTransitions(inUse, ReservationStatus.IN_USE, ReservationStatus.COMPLETED);
+        releaseSeats(inUse);
+        metrics.transitioned("in_use_to_completed", updated);
+        return updated;
     }
-} 
\ No newline at end of file
+}
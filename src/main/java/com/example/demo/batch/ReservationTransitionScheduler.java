@@ -0,0 +1,173 @@
+package com.example.demo.batch;
+
+import com.example.demo.entity.Reservation;
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.repository.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+// 예약별 다음 상태 전이 시각을 마감 시각 우선순위 큐로 관리하여, 마감 시각에 맞춰 전이를 실행
+// PENDING -> RESERVED (시작 시각), RESERVED -> NO_SHOW (시작 10분 후), IN_USE -> COMPLETED (종료 시각)
+@Component
+public class ReservationTransitionScheduler implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ReservationTransitionScheduler.class);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationBatchService batchService;
+
+    private final DelayQueue<Deadline> queue = new DelayQueue<>();
+    private final Map<Long, Deadline> current = new ConcurrentHashMap<>();
+    private volatile Thread worker;
+
+    public ReservationTransitionScheduler(ReservationRepository reservationRepository, ReservationBatchService batchService) {
+        this.reservationRepository = reservationRepository;
+        this.batchService = batchService;
+    }
+
+    // 기동 시 DB 로부터 대기 중인 전이를 다시 등록
+    public void rebuild() {
+        queue.clear();
+        current.clear();
+        List<Reservation> active = reservationRepository.findByStatusIn(
+                EnumSet.of(ReservationStatus.PENDING, ReservationStatus.RESERVED, ReservationStatus.IN_USE));
+        for (Reservation r : active) {
+            schedule(r.getId(), r.getStatus(), r.getStartTime(), r.getEndTime());
+        }
+        log.info("Reservation transition scheduler loaded {} deadlines", current.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        schedule(event.reservationId(), event.newStatus(), event.startTime(), event.endTime());
+    }
+
+    public int pendingCount() {
+        return current.size();
+    }
+
+    private void schedule(Long reservationId, ReservationStatus status, LocalDateTime startTime, LocalDateTime endTime) {
+        Deadline deadline = switch (status) {
+            case PENDING -> new Deadline(reservationId, ReservationStatus.PENDING, ReservationStatus.RESERVED, startTime);
+            case RESERVED -> new Deadline(reservationId, ReservationStatus.RESERVED, ReservationStatus.NO_SHOW,
+                    startTime.plusMinutes(ReservationBatchService.NO_SHOW_GRACE_MINUTES));
+            case IN_USE -> new Deadline(reservationId, ReservationStatus.IN_USE, ReservationStatus.COMPLETED, endTime);
+            default -> null;
+        };
+        if (deadline == null) {
+            current.remove(reservationId);
+            return;
+        }
+        current.put(reservationId, deadline);
+        queue.add(deadline);
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Deadline> due = new ArrayList<>();
+            try {
+                due.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(due);
+            // 이후 다시 등록된 예약의 이전 마감 시각은 무시
+            List<Deadline> live = due.stream()
+                    .filter(d -> current.remove(d.reservationId(), d))
+                    .toList();
+            if (live.isEmpty()) {
+                continue;
+            }
+            try {
+                batchService.applyTransitions(live);
+            } catch (RuntimeException e) {
+                // 실패한 전이는 주기 점검 배치에서 다시 처리됨
+                log.warn("Failed to apply {} reservation transitions", live.size(), e);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        rebuild();
+        Thread thread = new Thread(this::run, "reservation-transition-scheduler");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    // 예약 하나의 다음 상태 전이
+    public static final class Deadline implements Delayed {
+        private final Long reservationId;
+        private final ReservationStatus from;
+        private final ReservationStatus to;
+        private final LocalDateTime dueAt;
+        private final long dueAtMillis;
+
+        Deadline(Long reservationId, ReservationStatus from, ReservationStatus to, LocalDateTime dueAt) {
+            this.reservationId = reservationId;
+            this.from = from;
+            this.to = to;
+            this.dueAt = dueAt;
+            this.dueAtMillis = dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+
+        public Long reservationId() {
+            return reservationId;
+        }
+
+        public ReservationStatus from() {
+            return from;
+        }
+
+        public ReservationStatus to() {
+            return to;
+        }
+
+        public LocalDateTime dueAt() {
+            return dueAt;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof Deadline deadline) {
+                return Long.compare(dueAtMillis, deadline.dueAtMillis);
+            }
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.demo.batch;
+
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.repository.FloorDailyUtilizationRepository;
+import com.example.demo.repository.FloorHourlyUtilizationRepository;
+import com.example.demo.repository.ReservationArchiveRepository;
+import com.example.demo.repository.ReservationRepository;
+import com.example.demo.service.TopologyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 기존 이력(reservation + reservation_archive)으로 [from, to) 일자의 이용 집계를 다시 만듦
+// 구간의 집계 행을 먼저 지운 뒤, 시작 일자 단위 chunk 를 병렬로 읽어 누산하고 증가 UPDATE 로 더한다.
+// 증분은 순서와 관계없이 합쳐지므로 chunk 끼리 같은 행(자정을 넘는 사용 구간)을 건드려도 결과가 같다.
+// 오늘 이후 일자는 아직 확정 중이라 실시간 반영과 겹치므로 대상에서 제외한다.
+@Component
+public class UtilizationBackfill {
+    private static final Logger log = LoggerFactory.getLogger(UtilizationBackfill.class);
+    private static final Set<ReservationStatus> FINALIZED_STATUSES = EnumSet.of(ReservationStatus.COMPLETED, ReservationStatus.NO_SHOW);
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository archiveRepository;
+    private final FloorHourlyUtilizationRepository hourlyRepository;
+    private final FloorDailyUtilizationRepository dailyRepository;
+    private final TopologyService topologyService;
+    private final UtilizationRollupUpdater rollupUpdater;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int parallelism;
+    private final ReentrantLock running = new ReentrantLock();
+
+    public UtilizationBackfill(ReservationRepository reservationRepository, ReservationArchiveRepository archiveRepository,
+                               FloorHourlyUtilizationRepository hourlyRepository, FloorDailyUtilizationRepository dailyRepository,
+                               TopologyService topologyService, UtilizationRollupUpdater rollupUpdater,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${analytics.backfill.parallelism:4}") int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("재집계 병렬도는 1 이상이어야 합니다.");
+        }
+        this.reservationRepository = reservationRepository;
+        this.archiveRepository = archiveRepository;
+        this.hourlyRepository = hourlyRepository;
+        this.dailyRepository = dailyRepository;
+        this.topologyService = topologyService;
+        this.rollupUpdater = rollupUpdater;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.parallelism = parallelism;
+    }
+
+    public Result backfill(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("필수 입력값이 누락되었습니다.");
+        }
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("종료일자는 시작일자보다 이후여야 합니다.");
+        }
+        if (to.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("재집계는 오늘 이전 일자까지만 가능합니다.");
+        }
+        if (!running.tryLock()) {
+            throw new IllegalStateException("이용 집계 재계산이 이미 실행 중입니다.");
+        }
+        try {
+            long startedAt = System.nanoTime();
+            LocalDateTime clipFrom = from.atStartOfDay();
+            LocalDateTime clipTo = to.atStartOfDay();
+            transactionTemplate.executeWithoutResult(status -> {
+                hourlyRepository.deleteRange(clipFrom, clipTo);
+                dailyRepository.deleteRange(from, to);
+            });
+
+            // 전날 시작해 from 으로 넘어온 사용 구간도 포함하도록 하루 앞에서 시작 (몫은 clip 으로 잘림)
+            long reservations = 0;
+            int days = 0;
+            try (ExecutorService workers = Executors.newFixedThreadPool(parallelism)) {
+                List<Future<Integer>> chunks = new ArrayList<>();
+                for (LocalDate day = from.minusDays(1); day.isBefore(to); day = day.plusDays(1)) {
+                    LocalDate chunkDay = day;
+                    chunks.add(workers.submit(() -> backfillDay(chunkDay, clipFrom, clipTo)));
+                    days++;
+                }
+                for (Future<Integer> chunk : chunks) {
+                    reservations += chunk.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("이용 집계 재계산이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("이용 집계 재계산에 실패했습니다.", e.getCause());
+            }
+
+            Result result = new Result(from, to, days, reservations, (System.nanoTime() - startedAt) / 1_000_000);
+            log.info("Utilization backfill {} ~ {}: {} reservations in {} ms", from, to, reservations, result.elapsedMillis());
+            return result;
+        } finally {
+            running.unlock();
+        }
+    }
+
+    // 하루치(시작 일자 기준) 확정 예약을 누산해 반영하고 읽은 예약 수 반환
+    private int backfillDay(LocalDate day, LocalDateTime clipFrom, LocalDateTime clipTo) {
+        LocalDateTime start = day.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+        UtilizationRollup rollup = new UtilizationRollup(clipFrom, clipTo);
+        Integer read = readOnlyTransaction.execute(status -> {
+            List<Object[]> rows = new ArrayList<>(archiveRepository.findFinalizedStartingBetween(FINALIZED_STATUSES, start, end));
+            rows.addAll(reservationRepository.findFinalizedStartingBetween(FINALIZED_STATUSES, start, end));
+            for (Object[] row : rows) {
+                Long floorId = topologyService.findFloorIdOfSeat((Long) row[0]).orElse(null);
+                if (floorId != null) {
+                    fold(rollup, floorId, row);
+                }
+            }
+            return rows.size();
+        });
+        if (!rollup.isEmpty()) {
+            write(rollup);
+        }
+        return read == null ? 0 : read;
+    }
+
+    // findFinalizedStartingBetween 의 한 행 (좌석 id, 시작, 종료, 상태, 연장 원 예약 id, 사용 종료 시각)
+    static void fold(UtilizationRollup rollup, Long floorId, Object[] row) {
+        rollup.add(floorId, (LocalDateTime) row[1], (LocalDateTime) row[2], (ReservationStatus) row[3], (Long) row[4],
+                (LocalDateTime) row[5]);
+    }
+
+    // 다른 chunk 와 같은 새 행을 동시에 upsert 하다 충돌하면 chunk 증분 전체를 다시 반영 (롤백되었으므로 두 번 더해지지 않음)
+    private void write(UtilizationRollup rollup) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> rollupUpdater.apply(rollup));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_WRITE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // 재집계 결과 요약 (days 는 처리한 시작 일자 chunk 수, 구간 앞 하루 포함)
+    public record Result(LocalDate from, LocalDate to, int days, long reservations, long elapsedMillis) {}
+}
@@ -0,0 +1,97 @@
+package com.example.demo.batch;
+
+import com.example.demo.entity.ReservationStatus;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+// 확정된(종료/노쇼) 예약을 층-시간, 층-일자 단위 증분으로 모으는 누산기 (스레드 하나에서만 사용)
+// 종료 예약: 연장 체인의 첫 예약만 이용 1회로 세고, 사용 구간은 예약마다 자기 몫만 더한다.
+//           (연장 예약은 원 예약 종료 후 1시간, 반납으로 일찍 끝났으면 예약에 기록된 사용 종료 시각까지)
+// 노쇼 예약: 시작 시각이 속한 시간/일자에 1회
+// clipFrom/clipTo 밖의 시간/일자 몫은 버린다. (재집계 구간 경계에서 이웃 구간 값을 건드리지 않도록)
+public final class UtilizationRollup {
+    private static final Duration EXTENSION_UNIT = Duration.ofHours(1);
+
+    private final Map<HourKey, long[]> hourly = new HashMap<>();
+    private final Map<DayKey, long[]> daily = new HashMap<>();
+    private final LocalDateTime clipFrom;
+    private final LocalDateTime clipTo;
+
+    public UtilizationRollup() {
+        this(LocalDateTime.MIN, LocalDateTime.MAX);
+    }
+
+    public UtilizationRollup(LocalDateTime clipFrom, LocalDateTime clipTo) {
+        this.clipFrom = clipFrom;
+        this.clipTo = clipTo;
+    }
+
+    // completedAt 은 예약의 사용 종료 시각 (실시간 반영과 재집계 모두 같은 값을 넘김, 기록 전 예약은 null 이라 종료 시각까지로 봄)
+    public void add(Long floorId, LocalDateTime start, LocalDateTime end, ReservationStatus status,
+                    Long extendedFromReservationId, LocalDateTime completedAt) {
+        if (status == ReservationStatus.NO_SHOW) {
+            count(floorId, start, Measure.NO_SHOWS);
+            return;
+        }
+        if (status != ReservationStatus.COMPLETED) {
+            return;
+        }
+        if (extendedFromReservationId == null) {
+            count(floorId, start, Measure.SESSIONS);
+        }
+        LocalDateTime from = extendedFromReservationId == null ? start : end.minus(EXTENSION_UNIT);
+        LocalDateTime to = completedAt != null && completedAt.isBefore(end) ? completedAt : end;
+        occupy(floorId, from, to);
+    }
+
+    public boolean isEmpty() {
+        return hourly.isEmpty() && daily.isEmpty();
+    }
+
+    public Map<HourKey, long[]> hourly() {
+        return hourly;
+    }
+
+    public Map<DayKey, long[]> daily() {
+        return daily;
+    }
+
+    private void count(Long floorId, LocalDateTime at, Measure measure) {
+        if (at.isBefore(clipFrom) || !at.isBefore(clipTo)) {
+            return;
+        }
+        hourly.computeIfAbsent(new HourKey(floorId, at.truncatedTo(ChronoUnit.HOURS)), k -> new long[Measure.COUNT])[measure.ordinal()]++;
+        daily.computeIfAbsent(new DayKey(floorId, at.toLocalDate()), k -> new long[Measure.COUNT])[measure.ordinal()]++;
+    }
+
+    // [from, to) 사용 구간을 시간별로 나눠 더함
+    private void occupy(Long floorId, LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from.isBefore(clipFrom) ? clipFrom : from;
+        LocalDateTime end = to.isAfter(clipTo) ? clipTo : to;
+        for (LocalDateTime hour = start.truncatedTo(ChronoUnit.HOURS); hour.isBefore(end); hour = hour.plusHours(1)) {
+            LocalDateTime next = hour.plusHours(1);
+            long seconds = Duration.between(start.isAfter(hour) ? start : hour, end.isBefore(next) ? end : next).getSeconds();
+            if (seconds <= 0) {
+                continue;
+            }
+            hourly.computeIfAbsent(new HourKey(floorId, hour), k -> new long[Measure.COUNT])[Measure.OCCUPIED_SECONDS.ordinal()] += seconds;
+            daily.computeIfAbsent(new DayKey(floorId, hour.toLocalDate()), k -> new long[Measure.COUNT])[Measure.OCCUPIED_SECONDS.ordinal()] += seconds;
+        }
+    }
+
+    // 증분 배열의 순서
+    public enum Measure {
+        SESSIONS, NO_SHOWS, OCCUPIED_SECONDS;
+
+        static final int COUNT = values().length;
+    }
+
+    public record HourKey(Long floorId, LocalDateTime hourStart) {}
+
+    public record DayKey(Long floorId, LocalDate usageDate) {}
+}
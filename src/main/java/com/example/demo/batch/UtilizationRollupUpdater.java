@@ -0,0 +1,140 @@
+package com.example.demo.batch;
+
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.repository.FloorDailyUtilizationRepository;
+import com.example.demo.repository.FloorHourlyUtilizationRepository;
+import com.example.demo.service.TopologyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+// 예약이 종료/노쇼로 확정되면 층-시간, 층-일자 이용 집계에 더함 (배치 전이, 반납 모두 같은 경로)
+// 같은 트랜잭션의 확정 건을 모아 두었다가, 예약 트랜잭션이 커밋된 뒤 별도 트랜잭션에서 키마다 upsert 한 번으로 반영한다.
+// 롤백된 예약은 집계에 들어가지 않고, 집계 반영이 실패해도 예약 쓰기는 실패하지 않는다.
+// (충돌은 몇 번 다시 시도하고, 그래도 실패하면 로그만 남김. 빠진 집계는 재집계(A0106)로 맞춤)
+@Component
+public class UtilizationRollupUpdater {
+    private static final Logger log = LoggerFactory.getLogger(UtilizationRollupUpdater.class);
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final FloorHourlyUtilizationRepository hourlyRepository;
+    private final FloorDailyUtilizationRepository dailyRepository;
+    private final TopologyService topologyService;
+    private final TransactionTemplate transactionTemplate;
+
+    public UtilizationRollupUpdater(FloorHourlyUtilizationRepository hourlyRepository,
+                                    FloorDailyUtilizationRepository dailyRepository,
+                                    TopologyService topologyService, PlatformTransactionManager transactionManager) {
+        this.hourlyRepository = hourlyRepository;
+        this.dailyRepository = dailyRepository;
+        this.topologyService = topologyService;
+        // 커밋 후 콜백에서는 끝난 트랜잭션의 자원이 아직 묶여 있으므로 새 트랜잭션으로 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 커밋 후가 아니라 발행 시점(트랜잭션 안)에 받아 현재 트랜잭션의 누산기에 모음
+    @EventListener
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.oldStatus() == event.newStatus() || event.seatId() == null
+                || (event.newStatus() != ReservationStatus.COMPLETED && event.newStatus() != ReservationStatus.NO_SHOW)) {
+            return;
+        }
+        Long floorId = topologyService.findFloorIdOfSeat(event.seatId()).orElse(null);
+        if (floorId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            UtilizationRollup rollup = new UtilizationRollup();
+            fold(rollup, floorId, event);
+            applyAfterCommit(rollup);
+            return;
+        }
+        fold(currentRollup(), floorId, event);
+    }
+
+    // 누산기의 증분을 집계 행에 반영 (호출자의 트랜잭션 안에서 실행)
+    public void apply(UtilizationRollup rollup) {
+        for (Map.Entry<UtilizationRollup.HourKey, long[]> entry : rollup.hourly().entrySet()) {
+            UtilizationRollup.HourKey key = entry.getKey();
+            long[] delta = entry.getValue();
+            hourlyRepository.upsert(key.floorId(), key.hourStart(), sessions(delta), noShows(delta), seconds(delta));
+        }
+        for (Map.Entry<UtilizationRollup.DayKey, long[]> entry : rollup.daily().entrySet()) {
+            UtilizationRollup.DayKey key = entry.getKey();
+            long[] delta = entry.getValue();
+            dailyRepository.upsert(key.floorId(), key.usageDate(), sessions(delta), noShows(delta), seconds(delta));
+        }
+    }
+
+    // 예약 트랜잭션 밖에서 반영. 같은 키 행을 동시에 처음 만드는 충돌 등은 다시 시도하고, 예외는 호출자에게 넘기지 않음
+    private void applyAfterCommit(UtilizationRollup rollup) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(rollup));
+                return;
+            } catch (DataAccessException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.error("Failed to apply utilization rollup after {} attempts; run the backfill to repair it", attempt, e);
+                    return;
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to apply utilization rollup; run the backfill to repair it", e);
+                return;
+            }
+        }
+    }
+
+    static void fold(UtilizationRollup rollup, Long floorId, ReservationChangedEvent event) {
+        rollup.add(floorId, event.startTime(), event.endTime(), event.newStatus(), event.extendedFromReservationId(),
+                event.completedAt());
+    }
+
+    // 현재 트랜잭션에 묶인 누산기 (처음이면 만들고 커밋 후 반영을 등록)
+    private UtilizationRollup currentRollup() {
+        UtilizationRollup rollup = (UtilizationRollup) TransactionSynchronizationManager.getResource(this);
+        if (rollup != null) {
+            return rollup;
+        }
+        UtilizationRollup created = new UtilizationRollup();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(UtilizationRollupUpdater.this);
+                if (!created.isEmpty()) {
+                    applyAfterCommit(created);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(UtilizationRollupUpdater.this);
+            }
+        });
+        return created;
+    }
+
+    private static long sessions(long[] delta) {
+        return delta[UtilizationRollup.Measure.SESSIONS.ordinal()];
+    }
+
+    private static long noShows(long[] delta) {
+        return delta[UtilizationRollup.Measure.NO_SHOWS.ordinal()];
+    }
+
+    private static long seconds(long[] delta) {
+        return delta[UtilizationRollup.Measure.OCCUPIED_SECONDS.ordinal()];
+    }
+}
@@ -1,18 +1,26 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.FloorSeatStatusResponse;
 import com.example.demo.entity.Seat;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.service.FloorSeatMapCache;
+import com.example.demo.service.ReservationExportService;
 import com.example.demo.service.SeatService;
+import com.example.demo.service.TopologyService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/admin")
 public class AdminController {
     private final SeatService seatService;
+    private final ReservationExportService exportService;
 
-    public AdminController(SeatService seatService) {
+    public AdminController(SeatService seatService, ReservationExportService exportService) {
         this.seatService = seatService;
+        this.exportService = exportService;
     }
 
     // A0101: 강제 좌석 반납
@@ -24,7 +32,46 @@ public class AdminController {
 
     // A0102: 좌석 상세 현황 조회
     @GetMapping("/seat-status")
-    public List<Seat> getDetailedSeatStatus(@RequestParam Long buildingId, @RequestParam int floor) {
+    public FloorSeatStatusResponse getDetailedSeatStatus(@RequestParam Long buildingId, @RequestParam int floor) {
         return seatService.getSeatsByBuildingAndFloor(buildingId, floor);
     }
-} 
\ No newline at end of file
+
+    // A0103: 좌석 상태 변경 (BROKEN / AVAILABLE)
+    @PostMapping("/seats/{seatId}/status")
+    public Seat changeSeatStatus(@PathVariable Long seatId, @RequestParam SeatStatus status) {
+        return seatService.changeSeatStatus(seatId, status);
+    }
+
+    // A0104: 빌딩/층/좌석 구성 다시 적재
+    @PostMapping("/topology/refresh")
+    public TopologyService.Stats refreshTopology() {
+        return seatService.refreshTopology();
+    }
+
+    // 층별 좌석 현황 캐시 통계
+    @GetMapping("/seat-map-cache/stats")
+    public FloorSeatMapCache.Stats getSeatMapCacheStats() {
+        return seatService.getSeatMapCacheStats();
+    }
+
+    // A0105: 예약 내보내기 (employeeId, floorId, buildingId 중 하나, format=ndjson|csv)
+    @GetMapping("/reservations/export")
+    public ResponseEntity<StreamingResponseBody> exportReservations(@RequestParam(required = false) Long employeeId,
+                                                                    @RequestParam(required = false) Long floorId,
+                                                                    @RequestParam(required = false) Long buildingId,
+                                                                    @RequestParam String start,
+                                                                    @RequestParam String end,
+                                                                    @RequestParam(defaultValue = "ndjson") String format) {
+        ReservationExportService.ExportRequest export;
+        try {
+            export = exportService.prepare(employeeId, floorId, buildingId,
+                    java.time.LocalDateTime.parse(start), java.time.LocalDateTime.parse(end), format);
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(export.format().mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reservations." + export.format().extension() + "\"")
+                .body(out -> exportService.write(export, out));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.controller;
+
+import com.example.demo.batch.UtilizationBackfill;
+import com.example.demo.service.UtilizationAnalyticsService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+public class AnalyticsController {
+    private final UtilizationAnalyticsService analyticsService;
+    private final UtilizationBackfill backfill;
+
+    public AnalyticsController(UtilizationAnalyticsService analyticsService, UtilizationBackfill backfill) {
+        this.analyticsService = analyticsService;
+        this.backfill = backfill;
+    }
+
+    // A0106: 기존 이력으로 [from, to) 일자 이용 집계 재계산
+    @PostMapping("/backfill")
+    public ResponseEntity<?> backfill(@RequestParam String from, @RequestParam String to) {
+        try {
+            return ResponseEntity.ok(backfill.backfill(java.time.LocalDate.parse(from), java.time.LocalDate.parse(to)));
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // A0107: 층 시간별 이용 현황
+    @GetMapping("/floors/{floorId}/hourly")
+    public ResponseEntity<?> getHourly(@PathVariable Long floorId, @RequestParam String start, @RequestParam String end) {
+        try {
+            return ResponseEntity.ok(analyticsService.getHourly(floorId,
+                    java.time.LocalDateTime.parse(start), java.time.LocalDateTime.parse(end)));
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // A0108: 층 일별 이용 현황 (이용 수, 노쇼율, 평균 이용 시간)
+    @GetMapping("/floors/{floorId}/daily")
+    public ResponseEntity<?> getDaily(@PathVariable Long floorId, @RequestParam String start, @RequestParam String end) {
+        try {
+            return ResponseEntity.ok(analyticsService.getDaily(floorId,
+                    java.time.LocalDate.parse(start), java.time.LocalDate.parse(end)));
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
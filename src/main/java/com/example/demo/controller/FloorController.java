@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.example.demo.entity.Floor;
 import com.example.demo.service.FloorService;
@@ -19,5 +20,14 @@ public class FloorController {
     public List<Floor> getFloorsByBuilding(@PathVariable Long buildingId) {
         return floorService.getFloorsByBuilding(buildingId);
     }
-}
 
+    // U0207: 빌딩 층별 좌석 점유 현황 (빈 좌석/체크인 대기/사용 중/고장)
+    @GetMapping("/building/{buildingId}/occupancy")
+    public ResponseEntity<?> getBuildingOccupancy(@PathVariable Long buildingId) {
+        try {
+            return ResponseEntity.ok(floorService.getBuildingOccupancy(buildingId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -1,25 +1,41 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.BatchReservationResult;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.ReservationRequest;
 import com.example.demo.dto.ReservationResponse;
+import com.example.demo.service.IdempotencyStore;
 import com.example.demo.service.ReservationService;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/reservations")
 public class ReservationController {
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final ReservationService reservationService;
+    private final IdempotencyStore idempotencyStore;
 
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService, IdempotencyStore idempotencyStore) {
         this.reservationService = reservationService;
+        this.idempotencyStore = idempotencyStore;
     }
 
     // U0102 예약 등록
     @PostMapping
-    public ReservationResponse createReservation(@RequestBody ReservationRequest req) {
-        return reservationService.createReservation(req);
+    public ReservationResponse createReservation(@RequestBody ReservationRequest req,
+                                                 @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        String fingerprint = req.getEmployeeId() + "|" + req.getSeatId() + "|" + req.getStartTime() + "|" + req.getEndTime();
+        return idempotent(idempotencyKey, "create", fingerprint, () -> reservationService.createReservation(req));
+    }
+
+    // U0107: 일괄 예약 등록
+    @PostMapping("/batch")
+    public List<BatchReservationResult> createReservations(@RequestBody List<ReservationRequest> requests) {
+        return reservationService.createReservations(requests);
     }
 
     // U0103: 예약 취소
@@ -50,12 +66,49 @@ public class ReservationController {
         );
     }
 
+    // U0101: 예약 가능 좌석 기간 조회 (커서 기반 페이지)
+    @GetMapping("/available-seats/page")
+    public CursorPage<Long> getAvailableSeatsPage(@RequestParam("start") String start,
+                                                  @RequestParam("end") String end,
+                                                  @RequestParam("seatIds") List<Long> seatIds,
+                                                  @RequestParam(value = "cursor", required = false) String cursor,
+                                                  @RequestParam(value = "limit", required = false) Integer limit) {
+        return reservationService.getAvailableSeatsPage(
+            java.time.LocalDateTime.parse(start),
+            java.time.LocalDateTime.parse(end),
+            seatIds,
+            cursor,
+            limit
+        );
+    }
+
+    // U0108: 빌딩/층 안의 예약 가능 좌석 검색 (커서 기반 페이지)
+    @GetMapping("/free-seats")
+    public CursorPage<Long> searchFreeSeats(@RequestParam Long buildingId,
+                                            @RequestParam(value = "floor", required = false) Integer floor,
+                                            @RequestParam("start") String start,
+                                            @RequestParam("end") String end,
+                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                            @RequestParam(value = "limit", required = false) Integer limit) {
+        return reservationService.searchFreeSeats(
+            buildingId,
+            floor,
+            java.time.LocalDateTime.parse(start),
+            java.time.LocalDateTime.parse(end),
+            cursor,
+            limit
+        );
+    }
+
     // U0104: 예약 시간 연장
     @PostMapping("/{id}/extend")
     public ReservationResponse extendReservation(@PathVariable Long id, 
                                                @RequestParam("newEndTime") String newEndTime,
-                                               @RequestParam("employeeId") Long employeeId) {
-        return reservationService.extendReservation(id, java.time.LocalDateTime.parse(newEndTime), employeeId);
+                                               @RequestParam("employeeId") Long employeeId,
+                                               @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        java.time.LocalDateTime end = java.time.LocalDateTime.parse(newEndTime);
+        return idempotent(idempotencyKey, "extend", id + "|" + end + "|" + employeeId,
+                () -> reservationService.extendReservation(id, end, employeeId));
     }
 
     // U0105: 예약 이력 조회
@@ -74,10 +127,27 @@ public class ReservationController {
         );
     }
 
+    // U0105: 예약 이력 조회 (커서 기반 페이지)
+    @GetMapping("/history/page")
+    public CursorPage<ReservationResponse> getReservationHistoryPage(@RequestParam Long employeeId,
+                                                                    @RequestParam String start,
+                                                                    @RequestParam String end,
+                                                                    @RequestParam(value = "cursor", required = false) String cursor,
+                                                                    @RequestParam(value = "limit", required = false) Integer limit) {
+        return reservationService.getReservationHistoryPage(
+            employeeId,
+            java.time.LocalDateTime.parse(start),
+            java.time.LocalDateTime.parse(end),
+            cursor,
+            limit
+        );
+    }
+
     // U0202: 체크인
     @PostMapping("/{id}/checkin")
-    public ReservationResponse checkIn(@PathVariable Long id, @RequestParam Long employeeId) {
-        return reservationService.checkIn(id, employeeId);
+    public ReservationResponse checkIn(@PathVariable Long id, @RequestParam Long employeeId,
+                                       @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        return idempotent(idempotencyKey, "checkin", id + "|" + employeeId, () -> reservationService.checkIn(id, employeeId));
     }
 
     // U0205: 좌석 반납
@@ -85,4 +155,13 @@ public class ReservationController {
     public ReservationResponse returnSeat(@PathVariable Long id, @RequestParam Long employeeId) {
         return reservationService.returnSeat(id, employeeId);
     }
+
+    // Idempotency-Key 가 있으면 같은 키의 재시도에 저장된 응답을 돌려줌 (키가 없으면 그대로 실행)
+    private ReservationResponse idempotent(String key, String operation, String fingerprint,
+                                           Supplier<ReservationResponse> action) {
+        if (key == null) {
+            return action.get();
+        }
+        return idempotencyStore.execute(operation, key, fingerprint, ReservationResponse.class, action);
+    }
 }
@@ -1,11 +1,13 @@
 package com.example.demo.controller;
 
-import com.example.demo.entity.Seat;
 import com.example.demo.entity.Building;
 import com.example.demo.service.SeatService;
 import com.example.demo.service.BuildingService;
+import com.example.demo.service.SeatStatusStreamService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -14,23 +16,35 @@ import java.util.List;
 public class SeatController {
     private final SeatService seatService;
     private final BuildingService buildingService;
+    private final SeatStatusStreamService seatStatusStreamService;
 
-    public SeatController(SeatService seatService, BuildingService buildingService) {
+    public SeatController(SeatService seatService, BuildingService buildingService,
+                          SeatStatusStreamService seatStatusStreamService) {
         this.seatService = seatService;
         this.buildingService = buildingService;
+        this.seatStatusStreamService = seatStatusStreamService;
     }
 
     // U0201: 좌석 현황 조회
     @GetMapping("/building/{buildingId}/floor/{floor}/seats")
     public ResponseEntity<?> getSeatsByBuildingAndFloor(@PathVariable Long buildingId, @PathVariable int floor) {
         try {
-            List<Seat> seats = seatService.getSeatsByBuildingAndFloor(buildingId, floor);
-            return ResponseEntity.ok(seats);
+            return ResponseEntity.ok(seatService.getSeatsByBuildingAndFloor(buildingId, floor));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    // U0206: 좌석 현황 스트림 (snapshot 이벤트 한 번 후 delta 이벤트)
+    @GetMapping(path = "/building/{buildingId}/floor/{floor}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamSeatStatus(@PathVariable Long buildingId, @PathVariable int floor) {
+        try {
+            return ResponseEntity.ok(seatStatusStreamService.subscribe(buildingId, floor));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // U0203: 전체 빌딩 조회
     @GetMapping("/buildings")
     public List<Building> getAllBuildings() {
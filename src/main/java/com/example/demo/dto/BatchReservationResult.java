@@ -0,0 +1,29 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BatchReservationResult {
+    public int index;
+    public boolean accepted;
+    public ReservationResponse reservation;
+    public String reason;
+
+    public static BatchReservationResult accepted(int index, ReservationResponse reservation) {
+        BatchReservationResult result = new BatchReservationResult();
+        result.index = index;
+        result.accepted = true;
+        result.reservation = reservation;
+        return result;
+    }
+
+    public static BatchReservationResult rejected(int index, String reason) {
+        BatchReservationResult result = new BatchReservationResult();
+        result.index = index;
+        result.accepted = false;
+        result.reason = reason;
+        return result;
+    }
+}
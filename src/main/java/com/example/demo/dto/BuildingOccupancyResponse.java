@@ -0,0 +1,18 @@
+package com.example.demo.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+// 빌딩의 층별 좌석 점유 현황과 빌딩 합계
+@Getter
+@Setter
+public class BuildingOccupancyResponse {
+    public Long buildingId;
+    public int total;
+    public int free;
+    public int reserved;
+    public int inUse;
+    public int broken;
+    public List<FloorOccupancyResponse> floors;
+}
@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class CursorPage<T> {
+    public List<T> items;
+    public String nextCursor; // 다음 페이지가 없으면 null
+
+    public static <T> CursorPage<T> of(List<T> items, String nextCursor) {
+        CursorPage<T> page = new CursorPage<>();
+        page.items = items;
+        page.nextCursor = nextCursor;
+        return page;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 층의 현재 좌석 점유 현황 (좌석 수 기준)
+// reserved 는 시작 시각이 지나 체크인을 기다리는 예약이 있는 좌석, inUse 는 체크인된 좌석
+@Getter
+@Setter
+public class FloorOccupancyResponse {
+    public Long floorId;
+    public int floor;
+    public int total;
+    public int free;
+    public int reserved;
+    public int inUse;
+    public int broken;
+}
@@ -0,0 +1,16 @@
+package com.example.demo.dto;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+// 층 좌석 현황 응답 (빌딩/층 정보는 응답당 한 번만 포함)
+@Getter
+@Setter
+public class FloorSeatStatusResponse {
+    public Long buildingId;
+    public String buildingName;
+    public Long floorId;
+    public int floor;
+    public List<SeatStatusView> seats;
+}
@@ -0,0 +1,16 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.event.SeatStatusChangedEvent;
+
+// 좌석 상태 변경분 (SSE 로 전송)
+public record SeatStatusDelta(
+        Long seatId,
+        SeatStatus oldStatus,
+        SeatStatus newStatus,
+        Long reservationId) {
+
+    public static SeatStatusDelta of(SeatStatusChangedEvent event) {
+        return new SeatStatusDelta(event.seatId(), event.oldStatus(), event.newStatus(), event.reservationId());
+    }
+}
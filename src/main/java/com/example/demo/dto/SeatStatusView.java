@@ -0,0 +1,13 @@
+package com.example.demo.dto;
+
+import com.example.demo.entity.SeatStatus;
+
+import java.time.LocalDateTime;
+
+// 좌석 현황 한 줄 (currentReservationEndTime 은 사용 중인 예약의 종료 시간, 없으면 null)
+public record SeatStatusView(
+        Long seatId,
+        String name,
+        SeatStatus status,
+        LocalDateTime currentReservationEndTime) {
+}
@@ -0,0 +1,20 @@
+package com.example.demo.dto;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+// 층의 한 시간(또는 하루) 이용 집계
+// utilization 은 사용 시간 / (층 좌석 수 x 기간), noShowRate 는 노쇼 / (이용 + 노쇼)
+@Getter
+@Setter
+public class UtilizationResponse {
+    public Long floorId;
+    public LocalDateTime periodStart;
+    public long sessions;
+    public long noShows;
+    public long occupiedMinutes;
+    public double utilization;
+    public double noShowRate;
+    public double averageSessionMinutes;
+}
@@ -0,0 +1,38 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 층-일자별 이용 집계 (FloorHourlyUtilization 과 같은 기준을 일 단위로)
+@Entity
+@Table(name = "floor_daily_utilization")
+@IdClass(FloorDailyUtilization.Key.class)
+@Getter
+@Setter
+public class FloorDailyUtilization {
+    @Id
+    private Long floorId;
+
+    @Id
+    private LocalDate usageDate;
+
+    private long sessions;
+    private long noShows;
+    private long occupiedSeconds;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long floorId;
+        private LocalDate usageDate;
+    }
+}
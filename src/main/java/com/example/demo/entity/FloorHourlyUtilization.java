@@ -0,0 +1,40 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 층-시간별 이용 집계 (종료/노쇼 예약을 확정될 때 더함)
+// sessions, noShows 는 시작 시각이 속한 시간에, occupiedSeconds 는 사용 구간이 걸친 각 시간에 나눠 더한다.
+// 값은 증가 upsert(MERGE) 로만 바꾸므로 버전을 두지 않는다.
+@Entity
+@Table(name = "floor_hourly_utilization")
+@IdClass(FloorHourlyUtilization.Key.class)
+@Getter
+@Setter
+public class FloorHourlyUtilization {
+    @Id
+    private Long floorId;
+
+    @Id
+    private LocalDateTime hourStart;
+
+    private long sessions;
+    private long noShows;
+    private long occupiedSeconds;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long floorId;
+        private LocalDateTime hourStart;
+    }
+}
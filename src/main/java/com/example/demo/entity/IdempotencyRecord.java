@@ -0,0 +1,32 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+// Idempotency-Key 로 처리한 요청의 응답 (재기동 후에도 재시도를 같은 응답으로 돌려주기 위함)
+// 예약 쓰기와 같은 트랜잭션에서 저장하므로, 행이 있으면 작업이 커밋된 것이다.
+@Entity
+@Table(name = "idempotency_record", indexes = {
+        @Index(name = "idx_idempotency_record_expires", columnList = "expires_at")
+})
+@Getter
+@Setter
+public class IdempotencyRecord {
+    // 작업 이름 + ":" + 키
+    @Id
+    @Column(length = 200)
+    private String id;
+
+    // 같은 키를 다른 요청에 쓰는지 확인하기 위한 요청 내용
+    @Column(length = 500)
+    private String fingerprint;
+
+    @Column(length = 4000)
+    private String responseBody;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+}
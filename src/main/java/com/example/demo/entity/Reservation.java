@@ -8,16 +8,24 @@ import lombok.Setter;
 
 
 @Entity
+@Table(name = "reservation", indexes = {
+        @Index(name = "idx_reservation_seat_status_time", columnList = "seat_id, status, start_time, end_time"),
+        @Index(name = "idx_reservation_employee_start", columnList = "employee_id, start_time"),
+        @Index(name = "idx_reservation_status_start", columnList = "status, start_time"),
+        @Index(name = "idx_reservation_status_end", columnList = "status, end_time")
+})
 @Getter
 @Setter
 public class Reservation {
+    // 일괄 예약 시 JDBC 배치 insert 가 가능하도록 시퀀스 사용 (IDENTITY 는 배치 insert 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
     private Long employeeId;
     
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seat_id")
     private Seat seat;
 
@@ -31,6 +39,8 @@ public class Reservation {
     private ReservationStatus status;
 
     private LocalDateTime checkInAt;
+    // 실제로 사용이 끝난 시각 (반납/강제 반납 시각, 자동 종료는 종료 시각)
+    private LocalDateTime completedAt;
     private LocalDateTime createdAt;
     private Long extendedFromReservationId;
 }
@@ -0,0 +1,35 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.Setter;
+
+// 보관 기간이 지난 종료 예약 (ReservationArchiver 가 reservation 에서 옮김)
+// 운영 중인 예약 조회/배치가 읽는 reservation 테이블과 분리해, 활성 경로의 비용이 누적 건수에 비례하지 않도록 함
+@Entity
+@Table(name = "reservation_archive", indexes = {
+        @Index(name = "idx_reservation_archive_employee_start", columnList = "employee_id, start_time")
+})
+@Getter
+@Setter
+public class ReservationArchive {
+    // 원 예약 id 를 그대로 사용
+    @Id
+    private Long id;
+
+    private Long employeeId;
+    private Long seatId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+
+    private LocalDateTime checkInAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime createdAt;
+    private Long extendedFromReservationId;
+    private LocalDateTime archivedAt;
+}
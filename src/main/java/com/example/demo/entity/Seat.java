@@ -6,6 +6,7 @@ import lombok.Setter;
 
 @Getter
 @Setter
+// 상태와 버전은 예약 처리와 배치 일괄 갱신으로 자주 바뀌므로 2차 캐시에 두지 않음 (층/이름은 TopologyService 스냅샷에서 조회)
 @Entity
 public class Seat {
     @Id
@@ -19,4 +20,8 @@ public class Seat {
     private String name;
     @Enumerated(EnumType.STRING)
     private SeatStatus status; // AVAILABLE, UNAVAILABLE, BROKEN 등
+
+    // 좌석 단위 낙관적 락 (같은 좌석의 예약 변경이 동시에 커밋되지 않도록 함)
+    @Version
+    private Long version;
 }
\ No newline at end of file
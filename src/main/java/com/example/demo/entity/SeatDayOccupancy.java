@@ -0,0 +1,53 @@
+package com.example.demo.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 좌석-일자별 점유 슬롯 마스크 (10분 슬롯 144개를 long 3개에 1비트씩)
+// PENDING, RESERVED, IN_USE 예약의 슬롯을 경계 슬롯까지 포함해 표시하므로, 마스크가 겹치지 않으면 해당 구간은 확실히 비어 있다.
+// 예약 생성/연장 트랜잭션에서 함께 갱신하고, 버전으로 동시 갱신을 막는다.
+@Entity
+@Table(name = "seat_day_occupancy")
+@IdClass(SeatDayOccupancy.Key.class)
+@Getter
+@Setter
+public class SeatDayOccupancy {
+    @Id
+    private Long seatId;
+
+    @Id
+    private LocalDate slotDate;
+
+    private long slots0;
+    private long slots1;
+    private long slots2;
+
+    @Version
+    private Long version;
+
+    public long[] mask() {
+        return new long[]{slots0, slots1, slots2};
+    }
+
+    public void setMask(long[] mask) {
+        slots0 = mask[0];
+        slots1 = mask[1];
+        slots2 = mask[2];
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long seatId;
+        private LocalDate slotDate;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Reservation;
+import com.example.demo.entity.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+// 예약 상태 변경 이벤트 (신규 생성 시 oldStatus 는 null)
+public record ReservationChangedEvent(
+        Long reservationId,
+        Long employeeId,
+        Long seatId,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        ReservationStatus oldStatus,
+        ReservationStatus newStatus,
+        Long extendedFromReservationId,
+        LocalDateTime completedAt) {
+
+    public static ReservationChangedEvent of(Reservation reservation, ReservationStatus oldStatus) {
+        return new ReservationChangedEvent(
+                reservation.getId(),
+                reservation.getEmployeeId(),
+                reservation.getSeatId(),
+                reservation.getStartTime(),
+                reservation.getEndTime(),
+                oldStatus,
+                reservation.getStatus(),
+                reservation.getExtendedFromReservationId(),
+                reservation.getCompletedAt());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.event;
+
+import com.example.demo.entity.Seat;
+import com.example.demo.entity.SeatStatus;
+
+// 좌석 상태 변경 이벤트 (reservationId 는 변경을 일으킨 예약, 관리자 변경이면 null)
+public record SeatStatusChangedEvent(
+        Long seatId,
+        Long floorId,
+        SeatStatus oldStatus,
+        SeatStatus newStatus,
+        Long reservationId) {
+
+    public static SeatStatusChangedEvent of(Seat seat, SeatStatus oldStatus, Long reservationId) {
+        return new SeatStatusChangedEvent(
+                seat.getId(),
+                seat.getFloor() == null ? null : seat.getFloor().getId(),
+                oldStatus,
+                seat.getStatus(),
+                reservationId);
+    }
+}
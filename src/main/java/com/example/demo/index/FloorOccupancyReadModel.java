@@ -0,0 +1,216 @@
+package com.example.demo.index;
+
+import com.example.demo.dto.BuildingOccupancyResponse;
+import com.example.demo.dto.FloorOccupancyResponse;
+import com.example.demo.entity.Floor;
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.event.SeatStatusChangedEvent;
+import com.example.demo.repository.ReservationRepository;
+import com.example.demo.repository.SeatRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+
+// 층별 좌석 점유 현황 (빈 좌석 / 체크인 대기 / 사용 중 / 고장 좌석 수)
+// 좌석 상태와 예약 상태 변경 이벤트로 좌석별 상태를 갱신하면서 층 카운터를 바로 고치므로,
+// 조회는 좌석/예약을 읽지 않고 층 수만큼의 카운터만 읽는다.
+// 기동 시와 이벤트 없이 행을 바꾼 작업(합성 데이터 적재, 토폴로지 새로고침) 뒤에 DB 로부터 다시 만든다.
+//
+// 재구성은 쓰기 락을 잡은 채 한 읽기 전용 트랜잭션에서 좌석/예약을 읽고 교체하므로, 그동안 도착한 이벤트는 교체 후에 반영된다.
+// 읽기 전에 커밋되어 이미 반영된 변경의 이벤트가 교체 후 다시 와도 결과가 같도록, 좌석 상태는 값으로,
+// 예약은 RESERVED 예약 id 집합으로 들고 있는다. (건수 증감으로 들면 같은 변경이 두 번 더해짐)
+@Component
+public class FloorOccupancyReadModel {
+    private static final Logger log = LoggerFactory.getLogger(FloorOccupancyReadModel.class);
+
+    private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate snapshotTransaction;
+
+    // 이벤트 반영은 읽기 락(좌석 단위 원자성은 ConcurrentHashMap.compute), 재구성(적재~교체)은 쓰기 락
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, SeatState> seats = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicIntegerArray> floors = new ConcurrentHashMap<>();
+
+    public FloorOccupancyReadModel(SeatRepository seatRepository, ReservationRepository reservationRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.seatRepository = seatRepository;
+        this.reservationRepository = reservationRepository;
+        // 좌석과 예약을 같은 시점으로 읽음
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            Snapshot snapshot = snapshotTransaction.execute(status -> load());
+            seats.clear();
+            seats.putAll(snapshot.seats());
+            floors.clear();
+            floors.putAll(snapshot.floors());
+            log.debug("Floor occupancy rebuilt: {} seats on {} floors", snapshot.seats().size(), snapshot.floors().size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Snapshot load() {
+        Map<Long, Set<Long>> reservedBySeat = new HashMap<>();
+        for (Object[] row : reservationRepository.findSeatIdAndIdByStatus(ReservationStatus.RESERVED)) {
+            reservedBySeat.computeIfAbsent((Long) row[0], id -> new HashSet<>()).add((Long) row[1]);
+        }
+        Map<Long, SeatState> loaded = new HashMap<>();
+        Map<Long, AtomicIntegerArray> counters = new HashMap<>();
+        for (Object[] row : seatRepository.findSeatFloorAndStatus()) {
+            Long seatId = (Long) row[0];
+            Long floorId = (Long) row[1];
+            if (floorId == null) {
+                continue;
+            }
+            SeatState state = new SeatState(floorId, (SeatStatus) row[2], Set.copyOf(reservedBySeat.getOrDefault(seatId, Set.of())));
+            loaded.put(seatId, state);
+            counters.computeIfAbsent(floorId, id -> new AtomicIntegerArray(Category.COUNT)).incrementAndGet(state.category().ordinal());
+        }
+        return new Snapshot(loaded, counters);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        if (event.seatId() == null || event.oldStatus() == event.newStatus()) {
+            return;
+        }
+        // 재구성 이후 추가된 좌석은 변경 전 상태로 등록한 뒤 반영
+        SeatState initial = event.floorId() == null ? null : new SeatState(event.floorId(), event.oldStatus(), Set.of());
+        update(event.seatId(), initial, state -> state.withStatus(event.newStatus()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.seatId() == null || event.reservationId() == null || event.oldStatus() == event.newStatus()) {
+            return;
+        }
+        boolean wasReserved = event.oldStatus() == ReservationStatus.RESERVED;
+        boolean reserved = event.newStatus() == ReservationStatus.RESERVED;
+        if (wasReserved != reserved) {
+            update(event.seatId(), null, state -> state.withReservation(event.reservationId(), reserved));
+        }
+    }
+
+    // 빌딩의 모든 층 현황 (층 순서)
+    public BuildingOccupancyResponse getBuildingOccupancy(Long buildingId, List<Floor> buildingFloors) {
+        BuildingOccupancyResponse res = new BuildingOccupancyResponse();
+        res.buildingId = buildingId;
+        res.floors = new ArrayList<>(buildingFloors.size());
+        for (Floor floor : buildingFloors) {
+            FloorOccupancyResponse floorRes = toResponse(floor);
+            res.floors.add(floorRes);
+            res.total += floorRes.total;
+            res.free += floorRes.free;
+            res.reserved += floorRes.reserved;
+            res.inUse += floorRes.inUse;
+            res.broken += floorRes.broken;
+        }
+        return res;
+    }
+
+    private FloorOccupancyResponse toResponse(Floor floor) {
+        FloorOccupancyResponse res = new FloorOccupancyResponse();
+        res.floorId = floor.getId();
+        res.floor = floor.getFloor();
+        AtomicIntegerArray counts = floors.get(floor.getId());
+        if (counts != null) {
+            res.free = counts.get(Category.FREE.ordinal());
+            res.reserved = counts.get(Category.RESERVED.ordinal());
+            res.inUse = counts.get(Category.IN_USE.ordinal());
+            res.broken = counts.get(Category.BROKEN.ordinal());
+        }
+        res.total = res.free + res.reserved + res.inUse + res.broken;
+        return res;
+    }
+
+    // 좌석 상태를 바꾸고, 분류가 바뀌었으면 층 카운터 이동 (initial 이 null 이면 모르는 좌석은 무시)
+    private void update(Long seatId, SeatState initial, UnaryOperator<SeatState> change) {
+        lock.readLock().lock();
+        try {
+            seats.compute(seatId, (id, state) -> {
+                boolean added = state == null;
+                SeatState current = added ? initial : state;
+                if (current == null) {
+                    return null;
+                }
+                SeatState next = change.apply(current);
+                AtomicIntegerArray counts = floors.computeIfAbsent(next.floorId(), floorId -> new AtomicIntegerArray(Category.COUNT));
+                if (added) {
+                    counts.incrementAndGet(next.category().ordinal());
+                } else if (current.category() != next.category()) {
+                    counts.decrementAndGet(current.category().ordinal());
+                    counts.incrementAndGet(next.category().ordinal());
+                }
+                return next;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private enum Category {
+        FREE, RESERVED, IN_USE, BROKEN;
+
+        static final int COUNT = values().length;
+    }
+
+    private record Snapshot(Map<Long, SeatState> seats, Map<Long, AtomicIntegerArray> floors) {}
+
+    // reserved 는 좌석의 RESERVED 예약 id (불변 집합)
+    private record SeatState(Long floorId, SeatStatus status, Set<Long> reserved) {
+
+        SeatState withStatus(SeatStatus newStatus) {
+            return new SeatState(floorId, newStatus, reserved);
+        }
+
+        // 이미 반영된 변경이면 그대로
+        SeatState withReservation(Long reservationId, boolean isReserved) {
+            if (reserved.contains(reservationId) == isReserved) {
+                return this;
+            }
+            Set<Long> next = new HashSet<>(reserved);
+            if (isReserved) {
+                next.add(reservationId);
+            } else {
+                next.remove(reservationId);
+            }
+            return new SeatState(floorId, status, Set.copyOf(next));
+        }
+
+        Category category() {
+            if (status == SeatStatus.BROKEN) {
+                return Category.BROKEN;
+            }
+            if (status == SeatStatus.UNAVAILABLE) {
+                return Category.IN_USE;
+            }
+            return reserved.isEmpty() ? Category.FREE : Category.RESERVED;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.index;
+
+import com.example.demo.entity.Reservation;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.repository.ReservationRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// 예약 변경 이벤트를 받아 메모리 인덱스를 갱신 (커밋 이후 반영)
+@Component
+public class ReservationIndexUpdater {
+    private final ReservationRepository reservationRepository;
+    private final SeatIntervalIndex intervalIndex;
+    private final SeatAvailabilityBitmap availabilityBitmap;
+
+    public ReservationIndexUpdater(ReservationRepository reservationRepository, SeatIntervalIndex intervalIndex,
+                                   SeatAvailabilityBitmap availabilityBitmap) {
+        this.reservationRepository = reservationRepository;
+        this.intervalIndex = intervalIndex;
+        this.availabilityBitmap = availabilityBitmap;
+    }
+
+    // 기동 시 DB 로부터 인덱스 재구성
+    @PostConstruct
+    public void rebuild() {
+        intervalIndex.clear();
+        availabilityBitmap.clear();
+        List<Reservation> occupying = reservationRepository.findByStatusIn(SeatIntervalIndex.OCCUPYING_STATUSES).stream()
+                .filter(r -> r.getSeatId() != null)
+                .toList();
+        for (Reservation r : occupying) {
+            intervalIndex.put(r.getSeatId(), r.getId(), r.getStartTime(), r.getEndTime());
+        }
+        for (Reservation r : occupying) {
+            availabilityBitmap.refresh(r.getSeatId(), r.getStartTime(), r.getEndTime());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.seatId() == null) {
+            return;
+        }
+        intervalIndex.apply(event);
+        availabilityBitmap.refresh(event.seatId(), event.startTime(), event.endTime());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.demo.index;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 좌석별, 일자별 예약 슬롯 비트맵 (10분 단위 슬롯 1비트)
+// 구간의 경계 슬롯까지 포함해 표시하므로 비트가 겹치지 않으면 해당 구간은 확실히 비어 있다.
+// 비트가 겹치는 경우에만 SeatIntervalIndex 로 정확히 확인한다.
+@Component
+public class SeatAvailabilityBitmap {
+    public static final int SLOT_MINUTES = 10;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int WORDS = (SLOTS_PER_DAY + 63) / 64;
+
+    private final SeatIntervalIndex intervalIndex;
+    private final Map<Long, Map<LocalDate, long[]>> seats = new ConcurrentHashMap<>();
+
+    public SeatAvailabilityBitmap(SeatIntervalIndex intervalIndex) {
+        this.intervalIndex = intervalIndex;
+    }
+
+    // [start, end] 구간이 걸치는 일자별 슬롯 마스크
+    public static Map<LocalDate, long[]> masksOf(LocalDateTime start, LocalDateTime end) {
+        Map<LocalDate, long[]> masks = new LinkedHashMap<>();
+        LocalDate first = start.toLocalDate();
+        LocalDate last = end.toLocalDate();
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            int from = day.equals(first) ? slotOf(start) : 0;
+            int to = day.equals(last) ? slotOf(end) : SLOTS_PER_DAY - 1;
+            long[] mask = new long[WORDS];
+            for (int slot = from; slot <= to; slot++) {
+                mask[slot >>> 6] |= 1L << (slot & 63);
+            }
+            masks.put(day, mask);
+        }
+        return masks;
+    }
+
+    private static int slotOf(LocalDateTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+
+    public static boolean intersects(long[] a, long[] b) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((a[i] & b[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isEmpty(long[] mask) {
+        for (long word : mask) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 좌석의 [start, end] 구간이 걸치는 일자의 비트맵을 인터벌 인덱스로부터 다시 계산
+    public void refresh(Long seatId, LocalDateTime start, LocalDateTime end) {
+        seats.compute(seatId, (id, days) -> {
+            Map<LocalDate, long[]> target = (days == null) ? new ConcurrentHashMap<>() : days;
+            for (LocalDate day = start.toLocalDate(); !day.isAfter(end.toLocalDate()); day = day.plusDays(1)) {
+                LocalDateTime dayStart = day.atStartOfDay();
+                long[] mask = new long[WORDS];
+                for (SeatIntervalIndex.Interval interval : intervalIndex.intervals(seatId, dayStart, dayStart.plusDays(1))) {
+                    long[] part = masksOf(interval.start(), interval.end()).get(day);
+                    if (part != null) {
+                        for (int i = 0; i < WORDS; i++) {
+                            mask[i] |= part[i];
+                        }
+                    }
+                }
+                if (isEmpty(mask)) {
+                    target.remove(day);
+                } else {
+                    target.put(day, mask);
+                }
+            }
+            return target.isEmpty() ? null : target;
+        });
+    }
+
+    // 좌석이 주어진 구간 마스크(masksOf 결과)와 겹치는 슬롯을 가질 수 있는지 여부
+    public boolean mayOverlap(Long seatId, Map<LocalDate, long[]> window) {
+        Map<LocalDate, long[]> days = seats.get(seatId);
+        if (days == null) {
+            return false;
+        }
+        for (Map.Entry<LocalDate, long[]> entry : window.entrySet()) {
+            long[] mask = days.get(entry.getKey());
+            if (mask != null && intersects(mask, entry.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear() {
+        seats.clear();
+    }
+}
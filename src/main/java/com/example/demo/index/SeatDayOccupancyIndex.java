@@ -0,0 +1,169 @@
+package com.example.demo.index;
+
+import com.example.demo.entity.Reservation;
+import com.example.demo.entity.SeatDayOccupancy;
+import com.example.demo.repository.ReservationRepository;
+import com.example.demo.repository.SeatDayOccupancyRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+// 좌석-일자별 점유 마스크(seat_day_occupancy)로 하는 중복 예약 검사
+// 예약 테이블 크기와 관계없이 일자당 한 행만 읽어 판단하고, 재기동 후에도 그대로 유지된다.
+// 취소/노쇼/반납으로 비워진 슬롯은 바로 지우지 않으며, 마스크가 겹쳐 정확한 확인을 했는데 비어 있던 경우
+// 그 일자의 마스크를 예약 테이블 기준으로 다시 계산한다. (남은 비트는 정확한 확인 비용만 늘릴 뿐 잘못 통과시키지 않음)
+// 호출자의 트랜잭션 안에서 사용하며, 동시 갱신은 행 버전 충돌로 드러나 호출자가 재시도한다.
+// (같은 좌석-일자 행을 동시에 처음 만드는 경우의 키 중복도 같은 충돌로 바꿔 던짐)
+@Component
+public class SeatDayOccupancyIndex {
+    private static final Logger log = LoggerFactory.getLogger(SeatDayOccupancyIndex.class);
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final SeatDayOccupancyRepository occupancyRepository;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SeatDayOccupancyIndex(SeatDayOccupancyRepository occupancyRepository, ReservationRepository reservationRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.occupancyRepository = occupancyRepository;
+        this.reservationRepository = reservationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 마스크가 비어 있는데 앞으로의 예약이 있으면 (도입 전 데이터 등) 예약 테이블로부터 채움
+    @PostConstruct
+    public void init() {
+        if (occupancyRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    // [start, end] 구간이 저장된 예약과 겹치는지 여부
+    // 마스크가 겹치지 않으면 바로 false, 겹치면 exact 로 확인하고 비어 있으면 해당 일자 마스크를 다시 계산
+    public boolean overlaps(Long seatId, LocalDateTime start, LocalDateTime end, BooleanSupplier exact) {
+        Map<LocalDate, long[]> window = SeatAvailabilityBitmap.masksOf(start, end);
+        List<LocalDate> intersecting = new ArrayList<>();
+        for (Map.Entry<LocalDate, long[]> entry : window.entrySet()) {
+            SeatDayOccupancy row = occupancyRepository.findById(new SeatDayOccupancy.Key(seatId, entry.getKey())).orElse(null);
+            if (row != null && SeatAvailabilityBitmap.intersects(row.mask(), entry.getValue())) {
+                intersecting.add(entry.getKey());
+            }
+        }
+        if (intersecting.isEmpty()) {
+            return false;
+        }
+        if (exact.getAsBoolean()) {
+            return true;
+        }
+        for (LocalDate day : intersecting) {
+            recompute(seatId, day);
+        }
+        return false;
+    }
+
+    // 새 예약(또는 연장된 구간)의 슬롯 표시
+    public void occupy(Long seatId, LocalDateTime start, LocalDateTime end) {
+        for (Map.Entry<LocalDate, long[]> entry : SeatAvailabilityBitmap.masksOf(start, end).entrySet()) {
+            SeatDayOccupancy row = occupancyRepository.findById(new SeatDayOccupancy.Key(seatId, entry.getKey())).orElse(null);
+            if (row == null) {
+                row = newRow(seatId, entry.getKey());
+                row.setMask(entry.getValue());
+                insert(row);
+            } else {
+                row.setMask(or(row.mask(), entry.getValue()));
+                occupancyRepository.save(row);
+            }
+        }
+    }
+
+    // 새 행은 바로 flush 해서, 다른 트랜잭션이 같은 행을 먼저 만들었으면 키 중복을 버전 충돌처럼 재시도하게 함
+    // (앞선 쓰기의 오류가 섞이지 않도록 먼저 flush)
+    private void insert(SeatDayOccupancy row) {
+        occupancyRepository.flush();
+        try {
+            occupancyRepository.saveAndFlush(row);
+        } catch (DataIntegrityViolationException e) {
+            throw new OptimisticLockingFailureException("좌석-일자 점유 행을 다른 트랜잭션이 먼저 만들었습니다.", e);
+        }
+    }
+
+    // 오늘 이후 일자의 마스크를 점유 상태 예약으로부터 다시 만듦 (기동 시, 대량 적재 후)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        int rows = transactionTemplate.execute(status -> {
+            occupancyRepository.deleteBySlotDateFrom(today);
+            Map<SeatDayOccupancy.Key, long[]> masks = new HashMap<>();
+            for (Reservation r : reservationRepository.findByStatusInAndEndTimeGreaterThanEqualOrderByIdAsc(
+                    SeatIntervalIndex.OCCUPYING_STATUSES, today.atStartOfDay())) {
+                if (r.getSeatId() == null) {
+                    continue;
+                }
+                for (Map.Entry<LocalDate, long[]> entry : SeatAvailabilityBitmap.masksOf(r.getStartTime(), r.getEndTime()).entrySet()) {
+                    if (!entry.getKey().isBefore(today)) {
+                        masks.merge(new SeatDayOccupancy.Key(r.getSeatId(), entry.getKey()), entry.getValue(), SeatDayOccupancyIndex::or);
+                    }
+                }
+            }
+            List<SeatDayOccupancy> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+            for (Map.Entry<SeatDayOccupancy.Key, long[]> entry : masks.entrySet()) {
+                SeatDayOccupancy row = newRow(entry.getKey().getSeatId(), entry.getKey().getSlotDate());
+                row.setMask(entry.getValue());
+                batch.add(row);
+                if (batch.size() == REBUILD_BATCH_SIZE) {
+                    occupancyRepository.saveAll(batch);
+                    occupancyRepository.flush();
+                    batch.clear();
+                }
+            }
+            occupancyRepository.saveAll(batch);
+            return masks.size();
+        });
+        log.info("Seat-day occupancy rebuilt: {} rows", rows);
+    }
+
+    // 해당 일자의 마스크를 점유 상태 예약만으로 다시 계산 (취소 등으로 남은 비트 정리)
+    private void recompute(Long seatId, LocalDate day) {
+        LocalDateTime dayStart = day.atStartOfDay();
+        long[] mask = new long[SeatAvailabilityBitmap.WORDS];
+        for (Reservation r : reservationRepository.findOverlappingBySeatIdIn(List.of(seatId),
+                SeatIntervalIndex.OCCUPYING_STATUSES, dayStart, dayStart.plusDays(1).minusNanos(1))) {
+            long[] part = SeatAvailabilityBitmap.masksOf(r.getStartTime(), r.getEndTime()).get(day);
+            if (part != null) {
+                mask = or(mask, part);
+            }
+        }
+        long[] recomputed = mask;
+        occupancyRepository.findById(new SeatDayOccupancy.Key(seatId, day)).ifPresent(row -> {
+            row.setMask(recomputed);
+            occupancyRepository.save(row);
+        });
+    }
+
+    private static SeatDayOccupancy newRow(Long seatId, LocalDate day) {
+        SeatDayOccupancy row = new SeatDayOccupancy();
+        row.setSeatId(seatId);
+        row.setSlotDate(day);
+        return row;
+    }
+
+    private static long[] or(long[] a, long[] b) {
+        long[] merged = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            merged[i] = a[i] | b[i];
+        }
+        return merged;
+    }
+}
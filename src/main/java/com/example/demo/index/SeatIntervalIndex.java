@@ -0,0 +1,184 @@
+package com.example.demo.index;
+
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.event.ReservationChangedEvent;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 좌석별 예약 구간 인덱스 (PENDING, RESERVED, IN_USE 구간만 보관)
+@Component
+public class SeatIntervalIndex {
+    // 좌석을 점유하는 것으로 간주하는 예약 상태
+    // PENDING 도 포함해야 시작 전 예약끼리의 중복 예약을 막을 수 있음
+    public static final Set<ReservationStatus> OCCUPYING_STATUSES =
+            EnumSet.of(ReservationStatus.PENDING, ReservationStatus.RESERVED, ReservationStatus.IN_USE);
+
+    private final Map<Long, SeatIntervals> seats = new ConcurrentHashMap<>();
+
+    // 예약 상태 변경을 인덱스에 반영
+    public void apply(ReservationChangedEvent event) {
+        if (event.seatId() == null) {
+            return;
+        }
+        if (OCCUPYING_STATUSES.contains(event.newStatus())) {
+            put(event.seatId(), event.reservationId(), event.startTime(), event.endTime());
+        } else {
+            remove(event.seatId(), event.reservationId());
+        }
+    }
+
+    public void put(Long seatId, Long reservationId, LocalDateTime start, LocalDateTime end) {
+        seats.compute(seatId, (id, intervals) -> {
+            SeatIntervals target = (intervals == null) ? new SeatIntervals() : intervals;
+            target.put(new Interval(reservationId, start, end));
+            return target;
+        });
+    }
+
+    public void remove(Long seatId, Long reservationId) {
+        seats.computeIfPresent(seatId, (id, intervals) -> {
+            intervals.remove(reservationId);
+            return intervals.isEmpty() ? null : intervals;
+        });
+    }
+
+    // [start, end] 구간이 해당 좌석의 점유 구간과 겹치는지 확인 (excludeReservationId 는 제외)
+    public boolean overlaps(Long seatId, LocalDateTime start, LocalDateTime end, Long excludeReservationId) {
+        SeatIntervals intervals = seats.get(seatId);
+        return intervals != null && intervals.overlaps(start, end, excludeReservationId);
+    }
+
+    // [start, end] 구간과 겹치는 해당 좌석의 점유 구간 목록
+    public List<Interval> intervals(Long seatId, LocalDateTime start, LocalDateTime end) {
+        SeatIntervals intervals = seats.get(seatId);
+        return intervals == null ? List.of() : intervals.find(start, end);
+    }
+
+    public void clear() {
+        seats.clear();
+    }
+
+    public int size() {
+        return seats.values().stream().mapToInt(SeatIntervals::size).sum();
+    }
+
+    public record Interval(Long reservationId, LocalDateTime start, LocalDateTime end) {
+        boolean overlaps(LocalDateTime from, LocalDateTime to) {
+            return !(end.isBefore(from) || start.isAfter(to));
+        }
+    }
+
+    // 한 좌석의 구간 집합. 시작 시각 순으로 정렬하고, 가장 긴 구간 길이만큼만 앞으로 거슬러 탐색한다.
+    private static final class SeatIntervals {
+        private static final Comparator<Interval> ORDER = Comparator
+                .comparing(Interval::start)
+                .thenComparing(Interval::reservationId);
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final NavigableSet<Interval> byStart = new TreeSet<>(ORDER);
+        private final Map<Long, Interval> byId = new HashMap<>();
+        private Duration maxLength = Duration.ZERO;
+
+        void put(Interval interval) {
+            lock.lock();
+            try {
+                Interval previous = byId.put(interval.reservationId(), interval);
+                if (previous != null) {
+                    byStart.remove(previous);
+                }
+                byStart.add(interval);
+                Duration length = Duration.between(interval.start(), interval.end());
+                if (length.compareTo(maxLength) > 0) {
+                    maxLength = length;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Long reservationId) {
+            lock.lock();
+            try {
+                Interval previous = byId.remove(reservationId);
+                if (previous != null) {
+                    byStart.remove(previous);
+                }
+                if (byId.isEmpty()) {
+                    maxLength = Duration.ZERO;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean isEmpty() {
+            lock.lock();
+            try {
+                return byId.isEmpty();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return byId.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean overlaps(LocalDateTime start, LocalDateTime end, Long excludeReservationId) {
+            lock.lock();
+            try {
+                for (Interval interval : candidates(start, end)) {
+                    if (!interval.reservationId().equals(excludeReservationId) && interval.overlaps(start, end)) {
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<Interval> find(LocalDateTime start, LocalDateTime end) {
+            lock.lock();
+            try {
+                List<Interval> result = new ArrayList<>();
+                for (Interval interval : candidates(start, end)) {
+                    if (interval.overlaps(start, end)) {
+                        result.add(interval);
+                    }
+                }
+                return result;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // start - maxLength 이전에 시작한 구간은 start 까지 닿을 수 없으므로 탐색 범위에서 제외
+        private NavigableSet<Interval> candidates(LocalDateTime start, LocalDateTime end) {
+            if (end.isBefore(start.minus(maxLength))) {
+                return new TreeSet<>(ORDER);
+            }
+            Interval from = new Interval(Long.MIN_VALUE, start.minus(maxLength), null);
+            Interval to = new Interval(Long.MAX_VALUE, end, null);
+            return byStart.subSet(from, true, to, true);
+        }
+    }
+}
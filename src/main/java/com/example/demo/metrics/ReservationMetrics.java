@@ -0,0 +1,114 @@
+package com.example.demo.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// 예약 거절 사유별 카운터와 배치 전이/보관 건수, 좌석 명령 묶음 크기
+@Component
+public class ReservationMetrics {
+    private final MeterRegistry registry;
+    private final Map<Rejection, Counter> rejections = new EnumMap<>(Rejection.class);
+    private final DistributionSummary pipelineGroups;
+    private final Counter pipelineFallbacks;
+
+    // deferRejections 로 실행 중인 스레드의 거절 사유 버퍼 (없으면 바로 집계)
+    private final ThreadLocal<List<Rejection>> deferred = new ThreadLocal<>();
+
+    public ReservationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Rejection reason : Rejection.values()) {
+            rejections.put(reason, Counter.builder("reservation.rejections")
+                    .description("예약 요청 거절 건수")
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(registry));
+        }
+        pipelineGroups = DistributionSummary.builder("reservation.pipeline.group.size")
+                .description("한 트랜잭션으로 커밋한 좌석 명령 수")
+                .publishPercentileHistogram()
+                .register(registry);
+        pipelineFallbacks = Counter.builder("reservation.pipeline.fallbacks")
+                .description("롤백되어 명령별 트랜잭션으로 다시 실행한 좌석 명령 묶음 수")
+                .register(registry);
+    }
+
+    public void rejected(Rejection reason) {
+        List<Rejection> buffer = deferred.get();
+        if (buffer != null) {
+            buffer.add(reason);
+        } else {
+            rejections.get(reason).increment();
+        }
+    }
+
+    // 모아 둔 거절 사유를 한 번에 집계
+    public void rejected(List<Rejection> reasons) {
+        reasons.forEach(reason -> rejections.get(reason).increment());
+    }
+
+    // attempt 실행 중의 거절을 바로 세지 않고 into 에 모음
+    // 롤백 후 다시 실행될 수 있는 시도(좌석 명령 묶음)에서 쓰며, 호출한 쪽이 결과를 확정할 때 rejected(into) 로 집계한다.
+    public <T> T deferRejections(List<Rejection> into, Supplier<T> attempt) {
+        List<Rejection> previous = deferred.get();
+        deferred.set(into);
+        try {
+            return attempt.get();
+        } finally {
+            if (previous == null) {
+                deferred.remove();
+            } else {
+                deferred.set(previous);
+            }
+        }
+    }
+
+    // 배치 작업(job)에서 전이된 예약 건수
+    public void transitioned(String job, int count) {
+        Counter.builder("reservation.sweep.transitioned")
+                .description("배치 작업에서 상태가 전이된 예약 건수")
+                .tag("job", job)
+                .register(registry)
+                .increment(count);
+    }
+
+    // 보관 테이블로 옮긴 종료 예약 건수
+    public void archived(int count) {
+        Counter.builder("reservation.archived")
+                .description("보관 테이블로 옮긴 종료 예약 건수")
+                .register(registry)
+                .increment(count);
+    }
+
+    public void pipelineGroup(int size) {
+        pipelineGroups.record(size);
+    }
+
+    public void pipelineFallback() {
+        pipelineFallbacks.increment();
+    }
+
+    public enum Rejection {
+        MISSING_FIELDS,         // 필수 입력값 누락
+        START_IN_PAST,          // 시작 시간이 현재 이전
+        INVALID_TIME_RANGE,     // 종료 시간이 시작 시간 이전
+        MAX_DURATION,           // 1회 예약 8시간 초과
+        INVALID_BATCH,          // 일괄 예약 목록이 비었거나 너무 큼
+        SEAT_NOT_FOUND,         // 좌석 없음
+        BROKEN_SEAT,            // 고장 좌석
+        SEAT_NOT_AVAILABLE,     // 좌석 상태가 요청과 맞지 않음 (체크인/반납/연장/상태 변경)
+        OVERLAP,                // 같은 좌석의 다른 예약과 겹침
+        DAILY_LIMIT,            // 1인 1일 8시간 초과
+        INVALID_STATUS,         // 예약 상태가 요청과 맞지 않음
+        NOT_OWNER,              // 예약자와 요청자 불일치
+        EXTENSION_RULE,         // 1시간 단위, 자정 이전 연장 규칙 위반
+        CONFLICT_RETRY_EXHAUSTED, // 동시 변경 충돌 재시도 초과
+        PIPELINE_FULL           // 좌석 명령 대기열 초과
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.metrics;
+
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.repository.ReservationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 예약 상태별 건수 게이지. 스크레이프마다 DB 를 세지 않도록 변경 이벤트로 값을 유지하고,
+// 이벤트 없이 바뀐 행(직접 적재 등)이 있을 수 있어 배치 점검 주기마다 DB 값으로 다시 맞춘다.
+@Component
+public class ReservationStatusGauges {
+    private final ReservationRepository reservationRepository;
+    private final Map<ReservationStatus, AtomicLong> counts = new EnumMap<>(ReservationStatus.class);
+
+    public ReservationStatusGauges(ReservationRepository reservationRepository, MeterRegistry registry) {
+        this.reservationRepository = reservationRepository;
+        for (ReservationStatus status : ReservationStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            counts.put(status, count);
+            Gauge.builder("reservation.status.count", count, AtomicLong::get)
+                    .description("상태별 예약 건수")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${reservation.batch.sweep-interval-ms:600000}",
+            initialDelayString = "${reservation.batch.sweep-interval-ms:600000}")
+    public void resync() {
+        Map<ReservationStatus, Long> fromDb = new EnumMap<>(ReservationStatus.class);
+        for (Object[] row : reservationRepository.countByStatus()) {
+            fromDb.put((ReservationStatus) row[0], (Long) row[1]);
+        }
+        counts.forEach((status, count) -> count.set(fromDb.getOrDefault(status, 0L)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.oldStatus() == event.newStatus()) {
+            return;
+        }
+        if (event.oldStatus() != null) {
+            counts.get(event.oldStatus()).decrementAndGet();
+        }
+        if (event.newStatus() != null) {
+            counts.get(event.newStatus()).incrementAndGet();
+        }
+    }
+}
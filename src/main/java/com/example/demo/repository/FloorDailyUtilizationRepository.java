@@ -0,0 +1,39 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.FloorDailyUtilization;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface FloorDailyUtilizationRepository extends JpaRepository<FloorDailyUtilization, FloorDailyUtilization.Key> {
+
+    // 집계 행에 값을 더하고, 행이 없으면 그 값으로 만듦 (한 문장으로 실행하는 upsert)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "merge into floor_daily_utilization u " +
+                   "using (values (cast(:floorId as bigint), cast(:usageDate as date))) as k(floor_id, usage_date) " +
+                   "on u.floor_id = k.floor_id and u.usage_date = k.usage_date " +
+                   "when matched then update set sessions = u.sessions + :sessions, no_shows = u.no_shows + :noShows, " +
+                   "occupied_seconds = u.occupied_seconds + :seconds " +
+                   "when not matched then insert (floor_id, usage_date, sessions, no_shows, occupied_seconds) " +
+                   "values (k.floor_id, k.usage_date, :sessions, :noShows, :seconds)", nativeQuery = true)
+    int upsert(@Param("floorId") Long floorId,
+               @Param("usageDate") LocalDate usageDate,
+               @Param("sessions") long sessions,
+               @Param("noShows") long noShows,
+               @Param("seconds") long seconds);
+
+    @Query("select u from FloorDailyUtilization u where u.floorId = :floorId " +
+           "and u.usageDate >= :from and u.usageDate < :to order by u.usageDate")
+    List<FloorDailyUtilization> findRange(@Param("floorId") Long floorId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
+
+    // 재집계 전 [from, to) 구간 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from FloorDailyUtilization u where u.usageDate >= :from and u.usageDate < :to")
+    int deleteRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
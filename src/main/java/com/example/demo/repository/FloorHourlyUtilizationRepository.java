@@ -0,0 +1,39 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.FloorHourlyUtilization;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FloorHourlyUtilizationRepository extends JpaRepository<FloorHourlyUtilization, FloorHourlyUtilization.Key> {
+
+    // 집계 행에 값을 더하고, 행이 없으면 그 값으로 만듦 (한 문장으로 실행하는 upsert)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "merge into floor_hourly_utilization u " +
+                   "using (values (cast(:floorId as bigint), cast(:hourStart as timestamp))) as k(floor_id, hour_start) " +
+                   "on u.floor_id = k.floor_id and u.hour_start = k.hour_start " +
+                   "when matched then update set sessions = u.sessions + :sessions, no_shows = u.no_shows + :noShows, " +
+                   "occupied_seconds = u.occupied_seconds + :seconds " +
+                   "when not matched then insert (floor_id, hour_start, sessions, no_shows, occupied_seconds) " +
+                   "values (k.floor_id, k.hour_start, :sessions, :noShows, :seconds)", nativeQuery = true)
+    int upsert(@Param("floorId") Long floorId,
+               @Param("hourStart") LocalDateTime hourStart,
+               @Param("sessions") long sessions,
+               @Param("noShows") long noShows,
+               @Param("seconds") long seconds);
+
+    @Query("select u from FloorHourlyUtilization u where u.floorId = :floorId " +
+           "and u.hourStart >= :from and u.hourStart < :to order by u.hourStart")
+    List<FloorHourlyUtilization> findRange(@Param("floorId") Long floorId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    // 재집계 전 [from, to) 구간 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from FloorHourlyUtilization u where u.hourStart >= :from and u.hourStart < :to")
+    int deleteRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
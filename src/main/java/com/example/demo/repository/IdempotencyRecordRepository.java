@@ -0,0 +1,31 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // 응답 행 추가 (예약 쓰기 트랜잭션 안에서 실행, 같은 키가 이미 있으면 키 중복으로 실패)
+    // save 는 id 가 지정된 엔티티를 merge 해 기존 행을 덮어쓰므로 insert 를 직접 실행
+    @Modifying
+    @Query(value = "insert into idempotency_record (id, fingerprint, response_body, created_at, expires_at) " +
+                   "values (:id, :fingerprint, :responseBody, :createdAt, :expiresAt)", nativeQuery = true)
+    int insert(@Param("id") String id,
+               @Param("fingerprint") String fingerprint,
+               @Param("responseBody") String responseBody,
+               @Param("createdAt") LocalDateTime createdAt,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.id = :id and r.expiresAt < :now")
+    int deleteExpiredById(@Param("id") String id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,91 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.ReservationArchive;
+import com.example.demo.entity.ReservationStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ReservationArchiveRepository extends JpaRepository<ReservationArchive, Long> {
+
+    // 보관된 예약 중 가장 늦은 종료 시각 (기동 시 보관 경계 복원용)
+    @Query("select max(a.endTime) from ReservationArchive a")
+    Optional<LocalDateTime> findMaxEndTime();
+
+    // [from, to) 에 시작한 해당 상태 보관 예약 (좌석 id, 시작, 종료, 상태, 연장 원 예약 id, 사용 종료 시각) - 이용 집계 재계산용
+    @Query("select a.seatId, a.startTime, a.endTime, a.status, a.extendedFromReservationId, a.completedAt from ReservationArchive a " +
+           "where a.status in :statuses and a.startTime >= :from and a.startTime < :to")
+    List<Object[]> findFinalizedStartingBetween(@Param("statuses") Collection<ReservationStatus> statuses,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    // reservation 의 행을 그대로 복사 (같은 트랜잭션에서 원본 삭제)
+    @Modifying
+    @Query(value = "insert into reservation_archive (id, employee_id, seat_id, start_time, end_time, status, " +
+                   "check_in_at, completed_at, created_at, extended_from_reservation_id, archived_at) " +
+                   "select id, employee_id, seat_id, start_time, end_time, status, " +
+                   "check_in_at, completed_at, created_at, extended_from_reservation_id, :archivedAt " +
+                   "from reservation where id in :ids", nativeQuery = true)
+    int copyFromReservations(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // 보관 예약 이력 키셋 페이지 (startTime, id 순)
+    @Query("select a from ReservationArchive a " +
+           "where a.employeeId = :employeeId and a.startTime <= :end and a.endTime >= :start " +
+           "order by a.startTime, a.id")
+    List<ReservationArchive> findHistoryFirstPage(@Param("employeeId") Long employeeId,
+                                                  @Param("start") LocalDateTime start,
+                                                  @Param("end") LocalDateTime end,
+                                                  Pageable pageable);
+
+    @Query("select a from ReservationArchive a " +
+           "where a.employeeId = :employeeId and a.startTime <= :end and a.endTime >= :start " +
+           "and (a.startTime > :afterStart or (a.startTime = :afterStart and a.id > :afterId)) " +
+           "order by a.startTime, a.id")
+    List<ReservationArchive> findHistoryPageAfter(@Param("employeeId") Long employeeId,
+                                                  @Param("start") LocalDateTime start,
+                                                  @Param("end") LocalDateTime end,
+                                                  @Param("afterStart") LocalDateTime afterStart,
+                                                  @Param("afterId") Long afterId,
+                                                  Pageable pageable);
+
+    // 내보내기용 스트림 (보관 예약은 좌석 연관이 없으므로 층/빌딩은 좌석 id 하위 조회로 거름)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select a from ReservationArchive a " +
+           "where a.employeeId = :employeeId and a.startTime <= :end and a.endTime >= :start " +
+           "order by a.startTime, a.id")
+    Stream<ReservationArchive> streamByEmployeeId(@Param("employeeId") Long employeeId,
+                                                  @Param("start") LocalDateTime start,
+                                                  @Param("end") LocalDateTime end);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select a from ReservationArchive a " +
+           "where a.seatId in (select s.id from Seat s where s.floor.id = :floorId) " +
+           "and a.startTime <= :end and a.endTime >= :start " +
+           "order by a.startTime, a.id")
+    Stream<ReservationArchive> streamByFloorId(@Param("floorId") Long floorId,
+                                               @Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select a from ReservationArchive a " +
+           "where a.seatId in (select s.id from Seat s where s.floor.building.id = :buildingId) " +
+           "and a.startTime <= :end and a.endTime >= :start " +
+           "order by a.startTime, a.id")
+    Stream<ReservationArchive> streamByBuildingId(@Param("buildingId") Long buildingId,
+                                                  @Param("start") LocalDateTime start,
+                                                  @Param("end") LocalDateTime end);
+}
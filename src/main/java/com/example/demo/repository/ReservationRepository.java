@@ -1,9 +1,198 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Reservation;
+import com.example.demo.entity.ReservationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     List<Reservation> findByEmployeeId(Long employeeId);
+
+    @Query("select r.seatId from Reservation r where r.id = :id")
+    Optional<Long> findSeatIdById(@Param("id") Long id);
+
+    List<Reservation> findByStatusIn(Collection<ReservationStatus> statuses);
+    List<Reservation> findByStatusInAndEndTimeGreaterThanEqualOrderByIdAsc(Collection<ReservationStatus> statuses, LocalDateTime from);
+    List<Reservation> findBySeatIdAndStatus(Long seatId, ReservationStatus status);
+    List<Reservation> findByEmployeeIdAndStatusInAndStartTimeGreaterThanEqual(Long employeeId, Collection<ReservationStatus> statuses, LocalDateTime from);
+
+    // 상태별 예약 건수 (상태, 건수)
+    @Query("select r.status, count(r) from Reservation r group by r.status")
+    List<Object[]> countByStatus();
+
+    // 좌석에 배정된 해당 상태 예약 (좌석 id, 예약 id)
+    @Query("select r.seatId, r.id from Reservation r where r.status = :status and r.seatId is not null")
+    List<Object[]> findSeatIdAndIdByStatus(@Param("status") ReservationStatus status);
+
+    // 임직원의 (from, to) 와 겹치는 사용 시간 계산 대상 예약 (id, 시작, 종료, 연장 원 예약 id) - 1인 1일 8시간 제한 검사용
+    // 시작 시간 하한(earliest)을 함께 주어 (employee_id, start_time) 인덱스 범위로 읽음
+    @Query("select r.id, r.startTime, r.endTime, r.extendedFromReservationId from Reservation r " +
+           "where r.employeeId = :employeeId and r.status in :statuses " +
+           "and r.startTime >= :earliest and r.startTime < :to and r.endTime > :from")
+    List<Object[]> findUsageIntervals(@Param("employeeId") Long employeeId,
+                                      @Param("statuses") Collection<ReservationStatus> statuses,
+                                      @Param("earliest") LocalDateTime earliest,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    // [from, to) 에 시작한 해당 상태 예약 (좌석 id, 시작, 종료, 상태, 연장 원 예약 id, 사용 종료 시각) - 이용 집계 재계산용
+    @Query("select r.seatId, r.startTime, r.endTime, r.status, r.extendedFromReservationId, r.completedAt from Reservation r " +
+           "where r.status in :statuses and r.startTime >= :from and r.startTime < :to")
+    List<Object[]> findFinalizedStartingBetween(@Param("statuses") Collection<ReservationStatus> statuses,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    // 배치 상태 전이 대상 조회 (일괄 갱신 전까지 다른 트랜잭션이 상태를 바꾸지 못하도록 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Reservation> findByStatusAndStartTimeBefore(ReservationStatus status, LocalDateTime cutoff);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Reservation> findByStatusAndStartTimeBeforeAndCheckInAtIsNull(ReservationStatus status, LocalDateTime cutoff);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Reservation> findByStatusAndEndTimeBefore(ReservationStatus status, LocalDateTime cutoff);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Reservation> findByIdIn(Collection<Long> ids);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from Reservation r where r.seatId = :seatId and r.status = :status")
+    List<Reservation> lockBySeatIdAndStatus(@Param("seatId") Long seatId, @Param("status") ReservationStatus status);
+
+    // 상태 일괄 전이 (영향받은 행 수 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Reservation r set r.status = :to where r.status = :from and r.startTime < :cutoff")
+    int transitionByStartTimeBefore(@Param("from") ReservationStatus from,
+                                    @Param("to") ReservationStatus to,
+                                    @Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Reservation r set r.status = :to " +
+           "where r.status = :from and r.startTime < :cutoff and r.checkInAt is null")
+    int transitionUncheckedByStartTimeBefore(@Param("from") ReservationStatus from,
+                                             @Param("to") ReservationStatus to,
+                                             @Param("cutoff") LocalDateTime cutoff);
+
+    // 종료 시각이 지난 사용 중 예약의 자동 종료 (사용 종료 시각은 예약 종료 시각)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Reservation r set r.status = :to, r.completedAt = r.endTime where r.status = :from and r.endTime < :cutoff")
+    int completeByEndTimeBefore(@Param("from") ReservationStatus from,
+                                @Param("to") ReservationStatus to,
+                                @Param("cutoff") LocalDateTime cutoff);
+
+    // 좌석의 사용 중 예약 종료 (반납/강제 반납, 사용 종료 시각 기록)
+    // 좌석 명령 묶음 안에서 실행되므로 영속성 컨텍스트를 비우지 않음. 비우면 앞 명령이 OPTIMISTIC_FORCE_INCREMENT 로 읽은
+    // 좌석이 준영속이 되어 커밋 시 버전 증가가 빠짐 (호출자는 잠가 읽은 예약 엔티티에도 같은 상태를 직접 반영)
+    @Modifying(flushAutomatically = true)
+    @Query("update Reservation r set r.status = :to, r.completedAt = :completedAt where r.seatId = :seatId and r.status = :from")
+    int transitionBySeat(@Param("seatId") Long seatId,
+                         @Param("from") ReservationStatus from,
+                         @Param("to") ReservationStatus to,
+                         @Param("completedAt") LocalDateTime completedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Reservation r set r.status = :to where r.id in :ids and r.status = :from")
+    int transitionByIds(@Param("ids") Collection<Long> ids,
+                        @Param("from") ReservationStatus from,
+                        @Param("to") ReservationStatus to);
+
+    // 종료 시각이 된 사용 중 예약의 자동 종료 (사용 종료 시각은 예약 종료 시각)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Reservation r set r.status = :to, r.completedAt = r.endTime where r.id in :ids and r.status = :from")
+    int completeByIds(@Param("ids") Collection<Long> ids,
+                      @Param("from") ReservationStatus from,
+                      @Param("to") ReservationStatus to);
+
+    // 보관 대상 (종료 상태이고 cutoff 이전에 끝난 예약) id, id 순으로 chunk 단위 조회
+    @Query("select r.id from Reservation r where r.status in :statuses and r.endTime < :cutoff order by r.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<ReservationStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Reservation r where r.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // 좌석의 [start, end] 구간과 겹치는 예약 존재 여부
+    @Query("select case when count(r) > 0 then true else false end from Reservation r " +
+           "where r.seatId = :seatId and r.status in :statuses and r.startTime <= :end and r.endTime >= :start")
+    boolean existsOverlapping(@Param("seatId") Long seatId,
+                              @Param("statuses") Collection<ReservationStatus> statuses,
+                              @Param("start") LocalDateTime start,
+                              @Param("end") LocalDateTime end);
+
+    @Query("select case when count(r) > 0 then true else false end from Reservation r " +
+           "where r.seatId = :seatId and r.status in :statuses and r.startTime <= :end and r.endTime >= :start " +
+           "and r.id <> :excludeId")
+    boolean existsOverlappingExcluding(@Param("seatId") Long seatId,
+                                       @Param("statuses") Collection<ReservationStatus> statuses,
+                                       @Param("start") LocalDateTime start,
+                                       @Param("end") LocalDateTime end,
+                                       @Param("excludeId") Long excludeId);
+
+    // 여러 좌석의 [start, end] 구간과 겹치는 예약 (일괄 예약 검증용)
+    @Query("select r from Reservation r " +
+           "where r.seatId in :seatIds and r.status in :statuses and r.startTime <= :end and r.endTime >= :start")
+    List<Reservation> findOverlappingBySeatIdIn(@Param("seatIds") Collection<Long> seatIds,
+                                                @Param("statuses") Collection<ReservationStatus> statuses,
+                                                @Param("start") LocalDateTime start,
+                                                @Param("end") LocalDateTime end);
+
+    // 예약 이력 키셋 페이지 (startTime, id 순)
+    @Query("select r from Reservation r " +
+           "where r.employeeId = :employeeId and r.startTime <= :end and r.endTime >= :start " +
+           "order by r.startTime, r.id")
+    List<Reservation> findHistoryFirstPage(@Param("employeeId") Long employeeId,
+                                           @Param("start") LocalDateTime start,
+                                           @Param("end") LocalDateTime end,
+                                           Pageable pageable);
+
+    @Query("select r from Reservation r " +
+           "where r.employeeId = :employeeId and r.startTime <= :end and r.endTime >= :start " +
+           "and (r.startTime > :afterStart or (r.startTime = :afterStart and r.id > :afterId)) " +
+           "order by r.startTime, r.id")
+    List<Reservation> findHistoryPageAfter(@Param("employeeId") Long employeeId,
+                                           @Param("start") LocalDateTime start,
+                                           @Param("end") LocalDateTime end,
+                                           @Param("afterStart") LocalDateTime afterStart,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
+    // 내보내기용 스트림 (읽기 전용 트랜잭션 안에서 소비, 행 단위로 JDBC fetch)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select r from Reservation r " +
+           "where r.employeeId = :employeeId and r.startTime <= :end and r.endTime >= :start " +
+           "order by r.startTime, r.id")
+    Stream<Reservation> streamByEmployeeId(@Param("employeeId") Long employeeId,
+                                           @Param("start") LocalDateTime start,
+                                           @Param("end") LocalDateTime end);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select r from Reservation r join r.seat s " +
+           "where s.floor.id = :floorId and r.startTime <= :end and r.endTime >= :start " +
+           "order by r.startTime, r.id")
+    Stream<Reservation> streamByFloorId(@Param("floorId") Long floorId,
+                                        @Param("start") LocalDateTime start,
+                                        @Param("end") LocalDateTime end);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select r from Reservation r join r.seat s join s.floor f " +
+           "where f.building.id = :buildingId and r.startTime <= :end and r.endTime >= :start " +
+           "order by r.startTime, r.id")
+    Stream<Reservation> streamByBuildingId(@Param("buildingId") Long buildingId,
+                                           @Param("start") LocalDateTime start,
+                                           @Param("end") LocalDateTime end);
 }
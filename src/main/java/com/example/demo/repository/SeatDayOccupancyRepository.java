@@ -0,0 +1,22 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.SeatDayOccupancy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+
+public interface SeatDayOccupancyRepository extends JpaRepository<SeatDayOccupancy, SeatDayOccupancy.Key> {
+
+    // 지난 일자 정리 (보관 작업에서 호출)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from SeatDayOccupancy o where o.slotDate < :before")
+    int deleteBySlotDateBefore(@Param("before") LocalDate before);
+
+    // 재구성 전 from 이후 일자 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from SeatDayOccupancy o where o.slotDate >= :from")
+    int deleteBySlotDateFrom(@Param("from") LocalDate from);
+}
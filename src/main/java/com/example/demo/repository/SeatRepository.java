@@ -1,9 +1,63 @@
 package com.example.demo.repository;
 
+import com.example.demo.dto.SeatStatusView;
+import com.example.demo.entity.ReservationStatus;
 import com.example.demo.entity.Seat;
+import com.example.demo.entity.SeatStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface SeatRepository extends JpaRepository<Seat, Long> {
     List<Seat> findByFloorId(Long floorId);
-} 
\ No newline at end of file
+
+    // 조회한 좌석의 버전을 커밋 시 강제로 증가시켜, 같은 좌석에 대한 동시 예약 중 하나만 커밋되도록 함
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select s from Seat s where s.id = :id")
+    Optional<Seat> findForBookingById(@Param("id") Long id);
+
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select s from Seat s where s.id in :ids")
+    List<Seat> findForBookingByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 층 좌석 현황 (좌석별 사용 중 예약의 종료 시간을 함께 조회)
+    @Query("select new com.example.demo.dto.SeatStatusView(s.id, s.name, s.status, max(r.endTime)) " +
+           "from Seat s left join Reservation r on r.seatId = s.id and r.status = :inUse " +
+           "where s.floor.id = :floorId " +
+           "group by s.id, s.name, s.status order by s.id")
+    List<SeatStatusView> findStatusViewsByFloorId(@Param("floorId") Long floorId,
+                                                  @Param("inUse") ReservationStatus inUse);
+
+    // 좌석 id, 층 id, 이름만 조회 (구성 정보 적재용)
+    @Query("select s.id, s.floor.id, s.name from Seat s order by s.id")
+    List<Object[]> findSeatFloorAndName();
+
+    // 좌석 id, 층 id, 상태 (층별 점유 현황 적재용)
+    @Query("select s.id, s.floor.id, s.status from Seat s")
+    List<Object[]> findSeatFloorAndStatus();
+
+    // 사용 중 예약이 더 이상 없는 좌석을 잠가 조회 (자동 종료 후 좌석 반환 대상)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Seat s where s.id in :ids and s.status = :status " +
+           "and not exists (select r.id from Reservation r where r.seatId = s.id and r.status = :inUse)")
+    List<Seat> lockReleasableByIdIn(@Param("ids") Collection<Long> ids,
+                                    @Param("status") SeatStatus status,
+                                    @Param("inUse") ReservationStatus inUse);
+
+    // 좌석 상태 일괄 변경 (예약 측 낙관적 락과 충돌하도록 버전도 함께 증가)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Seat s set s.status = :to, s.version = s.version + 1 where s.id in :ids and s.status = :from")
+    int transitionByIds(@Param("ids") Collection<Long> ids,
+                        @Param("from") SeatStatus from,
+                        @Param("to") SeatStatus to);
+
+    @Query("select s.id from Seat s where s.id in :ids and s.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") SeatStatus status);
+}
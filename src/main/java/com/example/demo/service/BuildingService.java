@@ -1,21 +1,20 @@
 package com.example.demo.service;
 
 import com.example.demo.entity.Building;
-import com.example.demo.repository.BuildingRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
 public class BuildingService {
-    private final BuildingRepository buildingRepository;
+    private final TopologyService topologyService;
 
-    public BuildingService(BuildingRepository buildingRepository) {
-        this.buildingRepository = buildingRepository;
+    public BuildingService(TopologyService topologyService) {
+        this.topologyService = topologyService;
     }
 
     // U0203: 전체 빌딩 조회
     public List<Building> getAllBuildings() {
-        return buildingRepository.findAll();
+        return topologyService.getBuildings();
     }
 } 
\ No newline at end of file
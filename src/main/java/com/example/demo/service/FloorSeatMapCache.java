@@ -0,0 +1,155 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.FloorSeatStatusResponse;
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.event.SeatStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 층별 좌석 현황 캐시 (LRU + TTL). 좌석 상태가 바뀌면 해당 층 항목만 무효화한다.
+// 현황에 사용 중 예약의 종료 시각이 들어가므로, 좌석 상태 변화 없이 IN_USE 예약이 생기거나 끝날 때(연장 등)도 무효화한다.
+@Component
+public class FloorSeatMapCache {
+    private final TopologyService topologyService;
+    private final int maxFloors;
+    private final long ttlNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<FloorKey, Entry> entries;
+    private final Map<Long, FloorKey> keysByFloorId = new HashMap<>();
+    // 무효화가 일어날 때마다 증가. 조회 중 무효화가 있었다면 조회 결과를 캐시에 넣지 않는다.
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public FloorSeatMapCache(TopologyService topologyService,
+                             @Value("${reservation.seat-map-cache.max-floors:256}") int maxFloors,
+                             @Value("${reservation.seat-map-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.topologyService = topologyService;
+        this.maxFloors = maxFloors;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public FloorSeatStatusResponse get(Long buildingId, int floor, Supplier<Loaded> loader) {
+        FloorKey key = new FloorKey(buildingId, floor);
+        long loadGeneration;
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.loadedAt() < ttlNanos) {
+                hits.incrementAndGet();
+                return entry.seatMap();
+            }
+            if (entry != null) {
+                remove(key);
+                evictions.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            loadGeneration = generation;
+        } finally {
+            lock.unlock();
+        }
+
+        Loaded loaded = loader.get();
+        lock.lock();
+        try {
+            if (loadGeneration == generation) {
+                entries.put(key, new Entry(loaded.floorId(), loaded.seatMap(), System.nanoTime()));
+                keysByFloorId.put(loaded.floorId(), key);
+                evictOverflow();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded.seatMap();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        invalidateFloor(event.floorId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.seatId() == null || event.oldStatus() == event.newStatus()
+                || (event.oldStatus() != ReservationStatus.IN_USE && event.newStatus() != ReservationStatus.IN_USE)) {
+            return;
+        }
+        topologyService.findFloorIdOfSeat(event.seatId()).ifPresent(this::invalidateFloor);
+    }
+
+    public void invalidateFloor(Long floorId) {
+        lock.lock();
+        try {
+            generation++;
+            if (floorId == null) {
+                return;
+            }
+            FloorKey key = keysByFloorId.get(floorId);
+            if (key != null) {
+                remove(key);
+                invalidations.incrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            generation++;
+            entries.clear();
+            keysByFloorId.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.lock();
+        try {
+            return new Stats(entries.size(), hits.get(), misses.get(), evictions.get(), invalidations.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(FloorKey key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            keysByFloorId.remove(removed.floorId());
+        }
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > maxFloors) {
+            FloorKey eldest = entries.keySet().iterator().next();
+            remove(eldest);
+            evictions.incrementAndGet();
+        }
+    }
+
+    // 캐시 적재 결과 (층 id 와 좌석 현황)
+    public record Loaded(Long floorId, FloorSeatStatusResponse seatMap) {}
+
+    public record Stats(int size, long hits, long misses, long evictions, long invalidations) {}
+
+    private record FloorKey(Long buildingId, int floor) {}
+
+    private record Entry(Long floorId, FloorSeatStatusResponse seatMap, long loadedAt) {}
+}
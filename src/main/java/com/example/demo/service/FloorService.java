@@ -1,21 +1,32 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.BuildingOccupancyResponse;
 import com.example.demo.entity.Floor;
-import com.example.demo.repository.FloorRepository;
+import com.example.demo.index.FloorOccupancyReadModel;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
 @Service
 public class FloorService {
-    private final FloorRepository floorRepository;
+    private final TopologyService topologyService;
+    private final FloorOccupancyReadModel occupancyReadModel;
 
-    public FloorService(FloorRepository floorRepository) {
-        this.floorRepository = floorRepository;
+    public FloorService(TopologyService topologyService, FloorOccupancyReadModel occupancyReadModel) {
+        this.topologyService = topologyService;
+        this.occupancyReadModel = occupancyReadModel;
     }
 
     // U0204: 층 조회
     public List<Floor> getFloorsByBuilding(Long buildingId) {
-        return floorRepository.findByBuildingId(buildingId);
+        return topologyService.getFloorsByBuilding(buildingId);
     }
-}
\ No newline at end of file
+
+    // U0207: 빌딩 층별 좌석 점유 현황 (메모리 카운터만 읽음)
+    public BuildingOccupancyResponse getBuildingOccupancy(Long buildingId) {
+        if (topologyService.getBuildings().stream().noneMatch(b -> b.getId().equals(buildingId))) {
+            throw new IllegalArgumentException("빌딩 정보가 없습니다.");
+        }
+        return occupancyReadModel.getBuildingOccupancy(buildingId, topologyService.getFloorsByBuilding(buildingId));
+    }
+}
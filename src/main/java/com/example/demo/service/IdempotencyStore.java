@@ -0,0 +1,251 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.IdempotencyRecord;
+import com.example.demo.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Idempotency-Key 요청의 응답 저장소
+// 같은 키의 재시도는 TTL 안에서 저장된 응답을 그대로 돌려주고 예약 테이블은 읽지 않는다.
+// 최근 응답은 메모리(LRU + TTL)에 두고, 재기동이나 메모리에서 밀려난 키는 idempotency_record 에서 찾는다.
+//
+// 응답 행은 예약 쓰기와 같은 트랜잭션에서 insert 한다. (작업이 SeatCommandPipeline 에 넘긴 좌석 명령 트랜잭션에 Recorder 로 참여)
+// 그래서 행이 있으면 작업이 커밋된 것이고, 작업이 롤백되면 행도 없어 재시도가 다시 실행된다. 선점 행을 두지 않으므로
+// 커밋되었을 수 있는 작업을 다른 요청이 가로채 다시 실행하는 일이 없다.
+// 같은 키 요청이 동시에 실행되면 (같은 인스턴스는 처리 중 목록으로 거절) 먼저 커밋한 쪽만 남고,
+// 늦은 쪽은 키 중복이나 검증 실패로 롤백된 뒤 먼저 저장된 응답을 돌려준다.
+@Component
+public class IdempotencyStore {
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyStore.class);
+    private static final int MAX_KEY_LENGTH = 100;
+
+    // execute 로 실행 중인 요청 스레드의 Recorder (좌석 명령을 넘길 때 SeatCommandPipeline 이 가져감)
+    private static final ThreadLocal<Recorder> CURRENT = new ThreadLocal<>();
+
+    private final IdempotencyRecordRepository recordRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final int maxEntries;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> inFlight = new HashSet<>();
+
+    public IdempotencyStore(IdempotencyRecordRepository recordRepository, ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${reservation.idempotency.ttl-ms:86400000}") long ttlMillis,
+                            @Value("${reservation.idempotency.max-entries:10000}") int maxEntries) {
+        if (ttlMillis < 1 || maxEntries < 1) {
+            throw new IllegalArgumentException("Idempotency 설정값은 1 이상이어야 합니다.");
+        }
+        this.recordRepository = recordRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ttl = Duration.ofMillis(ttlMillis);
+        this.maxEntries = maxEntries;
+    }
+
+    // 현재 요청 스레드의 Recorder (execute 밖이면 null)
+    public static Recorder currentRecorder() {
+        return CURRENT.get();
+    }
+
+    // operation 은 작업 이름(키 공간), fingerprint 는 요청 내용 (같은 키로 다른 요청을 보내면 거절)
+    public <T> T execute(String operation, String key, String fingerprint, Class<T> type, Supplier<T> action) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+        String id = operation + ":" + key;
+
+        Entry cached = cached(id);
+        if (cached != null) {
+            checkFingerprint(cached.fingerprint(), fingerprint);
+            return read(cached.responseBody(), type);
+        }
+        if (!begin(id)) {
+            throw new IllegalStateException("같은 Idempotency-Key 요청이 처리 중입니다.");
+        }
+        try {
+            IdempotencyRecord stored = findStored(id);
+            if (stored != null) {
+                return replay(id, fingerprint, stored, type);
+            }
+
+            Recorder recorder = new Recorder(id, fingerprint);
+            T result;
+            CURRENT.set(recorder);
+            try {
+                result = action.get();
+            } catch (RuntimeException e) {
+                // 다른 인스턴스의 같은 키 요청이 먼저 커밋해 이 요청이 롤백되었으면 그 응답을 돌려줌
+                IdempotencyRecord committed = findStored(id);
+                if (committed == null) {
+                    throw e;
+                }
+                return replay(id, fingerprint, committed, type);
+            } finally {
+                CURRENT.remove();
+            }
+
+            if (recorder.responseBody == null) {
+                // 좌석 명령을 거치지 않은 작업은 참여할 트랜잭션이 없어 작업 후 따로 저장
+                log.warn("Idempotent action {} did not run as a seat command; storing its response separately", id);
+                transactionTemplate.executeWithoutResult(status -> recorder.record(result));
+            }
+            remember(id, fingerprint, recorder.responseBody, ttl);
+            return result;
+        } finally {
+            end(id);
+        }
+    }
+
+    // 만료된 응답 행 정리 (메모리 항목은 조회 시점과 LRU 로 정리)
+    @Scheduled(fixedDelayString = "${reservation.idempotency.purge-interval-ms:3600000}",
+            initialDelayString = "${reservation.idempotency.purge-interval-ms:3600000}")
+    public int purgeExpired() {
+        Integer purged = transactionTemplate.execute(status -> recordRepository.deleteExpired(LocalDateTime.now()));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} expired idempotency records", purged);
+        }
+        return purged == null ? 0 : purged;
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 저장된(커밋된) 응답 행. 만료된 행은 지워 새 요청이 같은 키로 저장할 수 있게 함
+    private IdempotencyRecord findStored(String id) {
+        IdempotencyRecord record = recordRepository.findById(id).orElse(null);
+        if (record == null) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (!record.getExpiresAt().isAfter(now)) {
+            transactionTemplate.executeWithoutResult(status -> recordRepository.deleteExpiredById(id, now));
+            return null;
+        }
+        return record;
+    }
+
+    private <T> T replay(String id, String fingerprint, IdempotencyRecord record, Class<T> type) {
+        checkFingerprint(record.getFingerprint(), fingerprint);
+        remember(id, record.getFingerprint(), record.getResponseBody(), Duration.between(LocalDateTime.now(), record.getExpiresAt()));
+        return read(record.getResponseBody(), type);
+    }
+
+    private boolean begin(String id) {
+        lock.lock();
+        try {
+            return inFlight.add(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void end(String id) {
+        lock.lock();
+        try {
+            inFlight.remove(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void checkFingerprint(String stored, String requested) {
+        if (!Objects.equals(stored, requested)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    private Entry cached(String id) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(id);
+            if (entry != null && System.nanoTime() - entry.expiresAt() >= 0) {
+                entries.remove(id);
+                return null;
+            }
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remember(String id, String fingerprint, String responseBody, Duration remaining) {
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.put(id, new Entry(fingerprint, responseBody, System.nanoTime() + remaining.toNanos()));
+            while (entries.size() > maxEntries) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private <T> T read(String body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    // 한 요청의 응답 기록. 좌석 명령 트랜잭션 안에서 호출되어 예약 쓰기와 함께 커밋되거나 롤백된다.
+    // (묶음 롤백 후 개별 재실행이나 충돌 재시도로 여러 번 호출될 수 있으며, 마지막 호출의 트랜잭션만 커밋됨)
+    public final class Recorder {
+        private final String id;
+        private final String fingerprint;
+        private volatile String responseBody;
+
+        private Recorder(String id, String fingerprint) {
+            this.id = id;
+            this.fingerprint = fingerprint;
+        }
+
+        public <T> T record(T response) {
+            String body = write(response);
+            LocalDateTime now = LocalDateTime.now();
+            recordRepository.insert(id, fingerprint, body, now, now.plus(ttl));
+            responseBody = body;
+            return response;
+        }
+    }
+
+    // expiresAt 은 System.nanoTime 기준
+    private record Entry(String fingerprint, String responseBody, long expiresAt) {}
+}
@@ -0,0 +1,55 @@
+package com.example.demo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 키셋 페이지네이션 커서 (클라이언트에는 불투명한 문자열로 전달)
+public final class PageCursor {
+    private static final String SEPARATOR = "|";
+
+    private PageCursor() {
+    }
+
+    // (startTime, id) 커서 - 예약 이력
+    public record TimeAndId(LocalDateTime startTime, Long id) {}
+
+    public static String encode(LocalDateTime startTime, Long id) {
+        return encode(startTime + SEPARATOR + id);
+    }
+
+    public static TimeAndId decodeTimeAndId(String cursor) {
+        String raw = decode(cursor);
+        int separator = raw.indexOf(SEPARATOR);
+        try {
+            return new TimeAndId(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    // seatId 커서 - 예약 가능 좌석
+    public static String encode(Long seatId) {
+        return encode(String.valueOf(seatId));
+    }
+
+    public static Long decodeSeatId(String cursor) {
+        try {
+            return Long.parseLong(decode(cursor));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.ReservationArchive;
+import com.example.demo.repository.ReservationArchiveRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 보관 이력(reservation_archive) 조회
+// 보관 경계(archivedBefore) 이후 구간만 조회하는 이력 요청은 보관 테이블을 읽지 않는다.
+// 경계는 ReservationArchiver 가 행을 옮기기 전에 넓힌다.
+@Component
+public class ReservationArchiveReader {
+    private final ReservationArchiveRepository archiveRepository;
+
+    // 보관된 예약은 모두 이 시각 이전(이하)에 끝남 (보관된 예약이 없으면 null)
+    private volatile LocalDateTime archivedBefore;
+
+    public ReservationArchiveReader(ReservationArchiveRepository archiveRepository) {
+        this.archiveRepository = archiveRepository;
+    }
+
+    // 기동 시 보관 경계 복원
+    @PostConstruct
+    public void init() {
+        archivedBefore = archiveRepository.findMaxEndTime().orElse(null);
+    }
+
+    // (afterStart, afterId) 이후의 보관 이력 키셋 페이지 (after 가 null 이면 첫 페이지, 구간이 보관 경계 이후면 조회하지 않음)
+    public List<ReservationArchive> findHistoryPage(Long employeeId, LocalDateTime start, LocalDateTime end,
+                                                    LocalDateTime afterStart, Long afterId, Pageable page) {
+        if (!reaches(start)) {
+            return List.of();
+        }
+        if (afterStart == null) {
+            return archiveRepository.findHistoryFirstPage(employeeId, start, end, page);
+        }
+        return archiveRepository.findHistoryPageAfter(employeeId, start, end, afterStart, afterId, page);
+    }
+
+    // start 부터의 구간에 보관 예약이 있을 수 있는지 (보관 경계 이전에서 시작)
+    public boolean reaches(LocalDateTime start) {
+        LocalDateTime boundary = archivedBefore;
+        return boundary != null && !start.isAfter(boundary);
+    }
+
+    // ReservationArchiver.archive() 에서만 호출 (스케줄러 단일 스레드)
+    public void advanceBoundary(LocalDateTime cutoff) {
+        if (archivedBefore == null || cutoff.isAfter(archivedBefore)) {
+            archivedBefore = cutoff;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Reservation;
+import com.example.demo.entity.ReservationArchive;
+import com.example.demo.repository.ReservationArchiveRepository;
+import com.example.demo.repository.ReservationRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// 예약 내보내기 (임직원/층/빌딩 단위, NDJSON 또는 CSV)
+// 읽기 전용 트랜잭션에서 JDBC fetch 단위로 행을 읽어 바로 응답에 쓰고, 쓴 엔티티는 영속성 컨텍스트에서 분리해
+// 건수와 관계없이 메모리 사용량이 일정하도록 한다. 조회 구간이 보관 경계에 닿으면 운영 예약 다음에 보관 예약을 내보냄
+// (이력 조회와 같이 운영 테이블을 먼저 읽어, 두 읽기 사이에 보관된 chunk 가 어느 쪽에서도 빠지지 않게 하고
+// 양쪽에 모두 나온 행은 id 로 한 번만 씀. 보관될 수 있는 행은 이미 끝난 예약뿐이라 그 id 만 기억함)
+@Service
+public class ReservationExportService {
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER =
+            "id,employeeId,seatId,startTime,endTime,status,checkInAt,createdAt,extendedFromReservationId";
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationArchiveRepository archiveRepository;
+    private final ReservationArchiveReader archiveReader;
+    private final TopologyService topologyService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReservationExportService(ReservationRepository reservationRepository, ReservationArchiveRepository archiveRepository,
+                                    ReservationArchiveReader archiveReader, TopologyService topologyService, EntityManager entityManager,
+                                    ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.reservationRepository = reservationRepository;
+        this.archiveRepository = archiveRepository;
+        this.archiveReader = archiveReader;
+        this.topologyService = topologyService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 요청 검증 (응답을 쓰기 시작하기 전에 호출해 잘못된 요청은 400 으로 돌려줌)
+    public ExportRequest prepare(Long employeeId, Long floorId, Long buildingId,
+                                 LocalDateTime start, LocalDateTime end, String format) {
+        int scopes = (employeeId != null ? 1 : 0) + (floorId != null ? 1 : 0) + (buildingId != null ? 1 : 0);
+        if (scopes != 1) {
+            throw new IllegalArgumentException("employeeId, floorId, buildingId 중 하나만 지정해야 합니다.");
+        }
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("필수 입력값이 누락되었습니다.");
+        }
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("종료일자가 시작일자보다 빠를 수 없습니다.");
+        }
+        if (floorId != null && topologyService.getSeatIdsByFloor(floorId).isEmpty()) {
+            throw new IllegalArgumentException("층 정보가 없습니다.");
+        }
+        if (buildingId != null && topologyService.getBuildings().stream().noneMatch(b -> b.getId().equals(buildingId))) {
+            throw new IllegalArgumentException("빌딩 정보가 없습니다.");
+        }
+        return new ExportRequest(employeeId, floorId, buildingId, start, end, Format.of(format));
+    }
+
+    // 내보낸 행 수 반환
+    public long write(ExportRequest request, OutputStream out) {
+        Long written = readOnlyTransaction.execute(status -> {
+            try {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+                RowWriter rows = request.format() == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+                long count = 0;
+                LocalDateTime startedAt = LocalDateTime.now();
+                Set<Long> endedIds = new HashSet<>();
+                try (Stream<Reservation> live = streamLive(request)) {
+                    for (Reservation r : (Iterable<Reservation>) live::iterator) {
+                        rows.write(r.getId(), r.getEmployeeId(), r.getSeatId(), r.getStartTime(), r.getEndTime(),
+                                r.getStatus().name(), r.getCheckInAt(), r.getCreatedAt(), r.getExtendedFromReservationId());
+                        if (r.getEndTime().isBefore(startedAt)) {
+                            endedIds.add(r.getId());
+                        }
+                        entityManager.detach(r);
+                        count++;
+                    }
+                }
+                // 경계는 행을 옮기기 전에 넓히므로 운영 테이블을 읽은 뒤에 확인
+                if (archiveReader.reaches(request.start())) {
+                    try (Stream<ReservationArchive> archived = streamArchive(request)) {
+                        for (ReservationArchive a : (Iterable<ReservationArchive>) archived::iterator) {
+                            if (!endedIds.contains(a.getId())) {
+                                rows.write(a.getId(), a.getEmployeeId(), a.getSeatId(), a.getStartTime(), a.getEndTime(),
+                                        a.getStatus().name(), a.getCheckInAt(), a.getCreatedAt(), a.getExtendedFromReservationId());
+                                count++;
+                            }
+                            entityManager.detach(a);
+                        }
+                    }
+                }
+                rows.finish();
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return written == null ? 0 : written;
+    }
+
+    private Stream<Reservation> streamLive(ExportRequest request) {
+        if (request.employeeId() != null) {
+            return reservationRepository.streamByEmployeeId(request.employeeId(), request.start(), request.end());
+        }
+        if (request.floorId() != null) {
+            return reservationRepository.streamByFloorId(request.floorId(), request.start(), request.end());
+        }
+        return reservationRepository.streamByBuildingId(request.buildingId(), request.start(), request.end());
+    }
+
+    private Stream<ReservationArchive> streamArchive(ExportRequest request) {
+        if (request.employeeId() != null) {
+            return archiveRepository.streamByEmployeeId(request.employeeId(), request.start(), request.end());
+        }
+        if (request.floorId() != null) {
+            return archiveRepository.streamByFloorId(request.floorId(), request.start(), request.end());
+        }
+        return archiveRepository.streamByBuildingId(request.buildingId(), request.start(), request.end());
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = MediaType.parseMediaType(mediaType);
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        static Format of(String value) {
+            if (value == null) {
+                return NDJSON;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+
+    public record ExportRequest(Long employeeId, Long floorId, Long buildingId,
+                                LocalDateTime start, LocalDateTime end, Format format) {}
+
+    private interface RowWriter {
+        void write(Long id, Long employeeId, Long seatId, LocalDateTime startTime, LocalDateTime endTime, String status,
+                   LocalDateTime checkInAt, LocalDateTime createdAt, Long extendedFromReservationId) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    // 한 줄에 예약 하나 (JSON 객체)
+    private final class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 최상위 값 사이에는 공백 대신 줄바꿈만 넣음
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Long id, Long employeeId, Long seatId, LocalDateTime startTime, LocalDateTime endTime, String status,
+                          LocalDateTime checkInAt, LocalDateTime createdAt, Long extendedFromReservationId) throws IOException {
+            generator.writeStartObject();
+            writeNumber("id", id);
+            writeNumber("employeeId", employeeId);
+            writeNumber("seatId", seatId);
+            writeTime("startTime", startTime);
+            writeTime("endTime", endTime);
+            generator.writeStringField("status", status);
+            writeTime("checkInAt", checkInAt);
+            writeTime("createdAt", createdAt);
+            writeNumber("extendedFromReservationId", extendedFromReservationId);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeNumber(String name, Long value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(name);
+            } else {
+                generator.writeNumberField(name, value);
+            }
+        }
+
+        private void writeTime(String name, LocalDateTime value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(name);
+            } else {
+                generator.writeStringField(name, value.toString());
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.close();
+            writer.flush();
+        }
+    }
+
+    // 헤더 한 줄 후 예약마다 한 줄 (값에 쉼표/따옴표가 없으므로 인용하지 않음)
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(Long id, Long employeeId, Long seatId, LocalDateTime startTime, LocalDateTime endTime, String status,
+                          LocalDateTime checkInAt, LocalDateTime createdAt, Long extendedFromReservationId) throws IOException {
+            writer.write(String.valueOf(id));
+            writer.write(',');
+            writeValue(employeeId);
+            writer.write(',');
+            writeValue(seatId);
+            writer.write(',');
+            writeValue(startTime);
+            writer.write(',');
+            writeValue(endTime);
+            writer.write(',');
+            writer.write(status);
+            writer.write(',');
+            writeValue(checkInAt);
+            writer.write(',');
+            writeValue(createdAt);
+            writer.write(',');
+            writeValue(extendedFromReservationId);
+            writer.write('\n');
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+}
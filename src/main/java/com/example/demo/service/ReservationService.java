@@ -1,117 +1,220 @@
 package com.example.demo.service;
 
 import com.example.demo.entity.Reservation;
+import com.example.demo.entity.ReservationArchive;
+import com.example.demo.entity.Floor;
 import com.example.demo.entity.ReservationStatus;
 import com.example.demo.repository.ReservationRepository;
+import com.example.demo.dto.BatchReservationResult;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.ReservationRequest;
 import com.example.demo.dto.ReservationResponse;
 import com.example.demo.entity.Seat;
 import com.example.demo.entity.SeatStatus;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.event.SeatStatusChangedEvent;
+import com.example.demo.index.SeatAvailabilityBitmap;
+import com.example.demo.index.SeatDayOccupancyIndex;
+import com.example.demo.index.SeatIntervalIndex;
+import com.example.demo.metrics.ReservationMetrics;
+import com.example.demo.metrics.ReservationMetrics.Rejection;
 import com.example.demo.repository.SeatRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class ReservationService {
+    private static final long MAX_DAILY_SECONDS = 8 * 3600;
+    // 1인 1일 사용 시간에 포함되는 예약 상태 (취소, 노쇼, 강제 취소, 실패는 제외)
+    private static final Set<ReservationStatus> USAGE_STATUSES = EnumSet.of(
+            ReservationStatus.PENDING, ReservationStatus.RESERVED, ReservationStatus.IN_USE, ReservationStatus.COMPLETED);
+    private static final int MAX_CONFLICT_RETRIES = 3;
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int DEFAULT_PAGE_SIZE = 5;
+    private static final int MAX_PAGE_SIZE = 100;
+    // skip/limit 조회가 읽는 행은 skip + limit 건까지 (더 뒤는 커서 기반 페이지로 조회)
+    private static final int MAX_SKIP = 1000;
+
     private final ReservationRepository reservationRepository;
     private final SeatRepository seatRepository;
+    private final SeatIntervalIndex intervalIndex;
+    private final SeatAvailabilityBitmap availabilityBitmap;
+    private final SeatLockStripes seatLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationMetrics metrics;
+    private final ReservationArchiveReader archiveReader;
+    private final TopologyService topologyService;
+    private final SeatDayOccupancyIndex occupancyIndex;
+    private final SeatCommandPipeline commandPipeline;
 
-    public ReservationService(ReservationRepository reservationRepository, SeatRepository seatRepository) {
+    public ReservationService(ReservationRepository reservationRepository, SeatRepository seatRepository,
+                              SeatIntervalIndex intervalIndex, SeatAvailabilityBitmap availabilityBitmap,
+                              SeatLockStripes seatLocks,
+                              PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                              ReservationMetrics metrics, ReservationArchiveReader archiveReader, TopologyService topologyService,
+                              SeatDayOccupancyIndex occupancyIndex, SeatCommandPipeline commandPipeline) {
         this.reservationRepository = reservationRepository;
         this.seatRepository = seatRepository;
+        this.intervalIndex = intervalIndex;
+        this.availabilityBitmap = availabilityBitmap;
+        this.seatLocks = seatLocks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.archiveReader = archiveReader;
+        this.topologyService = topologyService;
+        this.occupancyIndex = occupancyIndex;
+        this.commandPipeline = commandPipeline;
     }
 
-    @Transactional
+    @Timed(value = "reservation.operation", extraTags = {"operation", "create"}, histogram = true)
     public ReservationResponse createReservation(ReservationRequest req) {
         // 입력 데이터 검증
-        if (req.employeeId == null || req.seatId == null || req.startTime == null || req.endTime == null) {
-            throw new IllegalArgumentException("필수 입력값이 누락되었습니다.");
-        }
-        if (!req.startTime.isAfter(LocalDateTime.now())) {
-            throw new IllegalArgumentException("예약 시작 시간은 현재 시간보다 미래여야 합니다.");
-        }
-        if (!req.endTime.isAfter(req.startTime)) {
-            throw new IllegalArgumentException("종료 시간은 시작 시간보다 이후여야 합니다.");
+        validateRequest(req);
+        return commandPipeline.execute(req.seatId, group -> doCreateReservation(req, group));
+    }
+
+    private ReservationResponse doCreateReservation(ReservationRequest req, SeatCommandPipeline.Group group) {
+        Seat seat = seatRepository.findForBookingById(req.seatId)
+                .orElseThrow(() -> rejected(Rejection.SEAT_NOT_FOUND, "좌석 정보가 없습니다."));
+        // 저장된 예약과의 중복은 좌석-일자 점유 마스크로 먼저 판단하고, 마스크가 겹칠 때만 예약 테이블 조회
+        checkBookable(req, seat, group.pending(), List.of(),
+                () -> occupancyIndex.overlaps(req.seatId, req.startTime, req.endTime,
+                        () -> reservationRepository.existsOverlapping(req.seatId, SeatIntervalIndex.OCCUPYING_STATUSES, req.startTime, req.endTime)));
+
+        // 예약 저장
+        Reservation saved = reservationRepository.save(newReservation(req, seat));
+        occupancyIndex.occupy(saved.getSeatId(), saved.getStartTime(), saved.getEndTime());
+        group.add(saved);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(saved, null));
+        return toResponse(saved);
+    }
+
+    // U0107: 일괄 예약 등록
+    // 좌석, 기존 예약을 한 번에 조회해 함께 검증하고, 승인된 예약만 배치 insert 로 저장
+    @Timed(value = "reservation.operation", extraTags = {"operation", "create_batch"}, histogram = true)
+    public List<BatchReservationResult> createReservations(List<ReservationRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw rejected(Rejection.INVALID_BATCH, "예약 요청 목록이 필요합니다.");
         }
-        if (req.endTime.minusHours(8).isAfter(req.startTime)) {
-            throw new IllegalArgumentException("예약은 최대 8시간까지 가능합니다.");
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw rejected(Rejection.INVALID_BATCH, "일괄 예약은 최대 " + MAX_BATCH_SIZE + "건까지 가능합니다.");
         }
+        Set<Long> seatIds = requests.stream()
+                .map(req -> req.seatId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return inSeatTransaction(seatIds, () -> doCreateReservations(requests, seatIds));
+    }
 
-        // 좌석 상태 확인 (BROKEN 불가)
-        Seat seat = seatRepository.findById(req.seatId)
-                .orElseThrow(() -> new IllegalArgumentException("좌석 정보가 없습니다."));
-        if (seat.getStatus() == SeatStatus.BROKEN) {
-            throw new IllegalArgumentException("고장난 좌석은 예약할 수 없습니다.");
-        }
+    private List<BatchReservationResult> doCreateReservations(List<ReservationRequest> requests, Set<Long> seatIds) {
+        Map<Long, Seat> seats = seatIds.isEmpty()
+                ? Map.of()
+                : seatRepository.findForBookingByIdIn(seatIds).stream()
+                        .collect(Collectors.toMap(Seat::getId, Function.identity()));
+        LocalDateTime windowStart = requests.stream().map(req -> req.startTime).filter(Objects::nonNull)
+                .min(Comparator.naturalOrder()).orElse(null);
+        LocalDateTime windowEnd = requests.stream().map(req -> req.endTime).filter(Objects::nonNull)
+                .max(Comparator.naturalOrder()).orElse(null);
+        Map<Long, List<Reservation>> stored = (seats.isEmpty() || windowStart == null || windowEnd == null)
+                ? Map.of()
+                : reservationRepository.findOverlappingBySeatIdIn(seats.keySet(), SeatIntervalIndex.OCCUPYING_STATUSES,
+                        windowStart, windowEnd).stream()
+                .collect(Collectors.groupingBy(Reservation::getSeatId));
 
-        // 같은 좌석에 대해 다른 임직원의 RESERVED, IN_USE 예약과 겹치면 안 됨
-        List<Reservation> overlapping = reservationRepository.findAll().stream()
-                .filter(r -> r.getSeatId().equals(req.seatId))
-                .filter(r -> r.getStatus() == ReservationStatus.RESERVED || r.getStatus() == ReservationStatus.IN_USE)
-                .filter(r -> !(r.getEndTime().isBefore(req.startTime) || r.getStartTime().isAfter(req.endTime)))
-                .toList();
-        if (!overlapping.isEmpty()) {
-            throw new IllegalArgumentException("해당 좌석은 이미 예약되어 있습니다.");
+        BatchReservationResult[] results = new BatchReservationResult[requests.size()];
+        List<Reservation> accepted = new ArrayList<>();
+        Map<Reservation, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ReservationRequest req = requests.get(i);
+            try {
+                validateRequest(req);
+                Seat seat = seats.get(req.seatId);
+                if (seat == null) {
+                    throw rejected(Rejection.SEAT_NOT_FOUND, "좌석 정보가 없습니다.");
+                }
+                checkBookable(req, seat, accepted, accepted,
+                        () -> overlapsAny(stored.getOrDefault(req.seatId, List.of()), req.seatId, req.startTime, req.endTime));
+                Reservation reservation = newReservation(req, seat);
+                accepted.add(reservation);
+                positions.put(reservation, i);
+            } catch (IllegalArgumentException e) {
+                results[i] = BatchReservationResult.rejected(i, e.getMessage());
+            }
         }
 
-        // 1인 1일 최대 8시간 제한 (해당 날짜의 예약 총합)
-        LocalDateTime dayStart = req.startTime.toLocalDate().atStartOfDay();
-        LocalDateTime dayEnd = dayStart.plusDays(1);
-        long totalSeconds = reservationRepository.findByEmployeeId(req.employeeId).stream()
-                .filter(r -> !r.getStartTime().isAfter(dayEnd) && !r.getEndTime().isBefore(dayStart))
-                .mapToLong(r -> Math.min(r.getEndTime().toEpochSecond(java.time.ZoneOffset.UTC), dayEnd.toEpochSecond(java.time.ZoneOffset.UTC))
-                        - Math.max(r.getStartTime().toEpochSecond(java.time.ZoneOffset.UTC), dayStart.toEpochSecond(java.time.ZoneOffset.UTC)))
-                .sum();
-        long newSeconds = req.endTime.toEpochSecond(java.time.ZoneOffset.UTC) - req.startTime.toEpochSecond(java.time.ZoneOffset.UTC);
-        if ((totalSeconds + newSeconds) > 8 * 3600) {
-            throw new IllegalArgumentException("1일 최대 예약 가능 시간(8시간)을 초과합니다.");
+        for (Reservation saved : reservationRepository.saveAll(accepted)) {
+            occupancyIndex.occupy(saved.getSeatId(), saved.getStartTime(), saved.getEndTime());
+            eventPublisher.publishEvent(ReservationChangedEvent.of(saved, null));
+            int index = positions.get(saved);
+            results[index] = BatchReservationResult.accepted(index, toResponse(saved));
         }
-
-        // 예약 저장
-        Reservation reservation = new Reservation();
-        reservation.setEmployeeId(req.employeeId);
-        reservation.setSeatId(req.seatId);
-        reservation.setStartTime(req.startTime);
-        reservation.setEndTime(req.endTime);
-        reservation.setStatus(ReservationStatus.PENDING);
-        reservation.setCreatedAt(LocalDateTime.now());
-        Reservation saved = reservationRepository.save(reservation);
-        return toResponse(saved);
+        return Arrays.asList(results);
     }
 
-    @Transactional
+    @Timed(value = "reservation.operation", extraTags = {"operation", "cancel"}, histogram = true)
     public void cancelReservation(Long id, Long employeeId) {
+        commandPipeline.execute(seatIdOf(id), group -> {
+            doCancelReservation(id, employeeId);
+            return null;
+        });
+    }
+
+    private void doCancelReservation(Long id, Long employeeId) {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Reservation not found"));
         // RESERVED 상태만 취소 가능
         if (reservation.getStatus() != ReservationStatus.RESERVED) {
-            throw new IllegalStateException("예약 취소는 RESERVED 상태에서만 가능합니다.");
+            throw rejectedState(Rejection.INVALID_STATUS, "예약 취소는 RESERVED 상태에서만 가능합니다.");
         }
         // 예약자와 요청자 id 일치 검증
         if (!reservation.getEmployeeId().equals(employeeId)) {
-            throw new IllegalArgumentException("예약 취소 권한이 없습니다.");
+            throw rejected(Rejection.NOT_OWNER, "예약 취소 권한이 없습니다.");
         }
         reservation.setStatus(ReservationStatus.CANCELLED);
         reservationRepository.save(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(reservation, ReservationStatus.RESERVED));
     }
 
+    @Timed(value = "reservation.operation", extraTags = {"operation", "list_by_employee"}, histogram = true)
     public List<ReservationResponse> getReservationsByEmployee(Long employeeId) {
         LocalDateTime today = LocalDateTime.now().toLocalDate().atStartOfDay();
-        return reservationRepository.findByEmployeeId(employeeId).stream()
-                .filter(r -> !r.getStartTime().isBefore(today))
-                .filter(r -> r.getStatus() == ReservationStatus.PENDING
-                          || r.getStatus() == ReservationStatus.RESERVED
-                          || r.getStatus() == ReservationStatus.IN_USE)
+        return reservationRepository.findByEmployeeIdAndStatusInAndStartTimeGreaterThanEqual(employeeId,
+                        EnumSet.of(ReservationStatus.PENDING, ReservationStatus.RESERVED, ReservationStatus.IN_USE), today).stream()
                 .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     // U0101: 예약 가능 좌석 기간 조회
+    @Timed(value = "reservation.operation", extraTags = {"operation", "available_seats"}, histogram = true)
     public List<Long> getAvailableSeats(
             LocalDateTime start, LocalDateTime end, 
             List<Long> allSeatIds, 
@@ -126,83 +229,162 @@ public class ReservationService {
         }
 
         // 기본값 처리
-        int skipVal = (skip == null) ? 0 : skip;
-        int limitVal = (limit == null) ? 5 : limit;
+        int skipVal = skipOf(skip);
+        int limitVal = pageSize(limit);
 
-        // 2. BROKEN 좌석 제외
-        List<Long> brokenSeatIds = seatRepository.findAll().stream()
-                .filter(seat -> seat.getStatus() == SeatStatus.BROKEN)
-                .map(Seat::getId)
-                .toList();
+        // 2. 요청 순서대로 BROKEN 좌석과 예약 충돌 좌석(PENDING, RESERVED, IN_USE)을 제외하며 skip + limit 개까지만 확인
+        Iterator<Long> candidates = allSeatIds.stream().filter(Objects::nonNull).iterator();
+        List<Long> found = findAvailableSeats(candidates, start, end, skipVal + limitVal).items;
 
-        // 3. 예약 충돌 좌석 제외 (RESERVED, IN_USE)
-        List<Reservation> overlapping = reservationRepository.findAll().stream()
-                .filter(r -> r.getStatus() == ReservationStatus.RESERVED || r.getStatus() == ReservationStatus.IN_USE)
-                .filter(r -> !(r.getEndTime().isBefore(start) || r.getStartTime().isAfter(end)))
-                .toList();
-        List<Long> reservedSeatIds = overlapping.stream().map(Reservation::getSeatId).toList();
-
-        // 4. 사용 가능한 좌석 필터링
-        return allSeatIds.stream()
-                .filter(id -> !reservedSeatIds.contains(id))
-                .filter(id -> !brokenSeatIds.contains(id))
-                .skip(skipVal)
-                .limit(limitVal)
-                .collect(Collectors.toList());
+        // 3. 앞의 skip 개를 건너뜀
+        return new ArrayList<>(found.subList(Math.min(skipVal, found.size()), found.size()));
+    }
+
+    // U0101: 예약 가능 좌석 기간 조회 (seatId 키셋 페이지)
+    @Timed(value = "reservation.operation", extraTags = {"operation", "available_seats_page"}, histogram = true)
+    public CursorPage<Long> getAvailableSeatsPage(LocalDateTime start, LocalDateTime end, List<Long> allSeatIds,
+                                                  String cursor, Integer limit) {
+        if (start == null || end == null || start.isBefore(LocalDateTime.now()) || end.isBefore(start)) {
+            throw new IllegalArgumentException("잘못된 시간 입력입니다.");
+        }
+        if (allSeatIds == null || allSeatIds.isEmpty()) {
+            throw new IllegalArgumentException("좌석 목록이 필요합니다.");
+        }
+        int limitVal = pageSize(limit);
+        Long after = (cursor == null) ? null : PageCursor.decodeSeatId(cursor);
+        Iterator<Long> candidates = allSeatIds.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> after == null || id > after)
+                .distinct()
+                .sorted()
+                .iterator();
+        return findAvailableSeats(candidates, start, end, limitVal);
+    }
+
+    // U0108: 빌딩(floor 를 주면 해당 층) 안의 예약 가능 좌석 검색 ((층, seatId) 순 키셋 페이지)
+    // 후보 좌석은 메모리 구성 정보에서 층 순서대로 꺼내고, limit 개를 찾으면 나머지 층은 확인하지 않음
+    @Timed(value = "reservation.operation", extraTags = {"operation", "free_seats"}, histogram = true)
+    public CursorPage<Long> searchFreeSeats(Long buildingId, Integer floor, LocalDateTime start, LocalDateTime end,
+                                            String cursor, Integer limit) {
+        if (start == null || end == null || start.isBefore(LocalDateTime.now()) || end.isBefore(start)) {
+            throw new IllegalArgumentException("잘못된 시간 입력입니다.");
+        }
+        int limitVal = pageSize(limit);
+        List<Floor> floors;
+        if (floor != null) {
+            floors = List.of(topologyService.findFloor(buildingId, floor)
+                    .orElseThrow(() -> new IllegalArgumentException("층 정보가 없습니다.")));
+        } else {
+            floors = topologyService.getFloorsByBuilding(buildingId);
+            if (floors.isEmpty()) {
+                throw new IllegalArgumentException("빌딩 정보가 없습니다.");
+            }
+        }
+
+        // 커서 좌석이 속한 층부터 이어서 확인
+        Long after = (cursor == null) ? null : PageCursor.decodeSeatId(cursor);
+        Long afterFloorId = null;
+        int firstFloor = 0;
+        if (after != null) {
+            afterFloorId = topologyService.findFloorIdOfSeat(after)
+                    .orElseThrow(() -> new IllegalArgumentException("잘못된 커서입니다."));
+            while (firstFloor < floors.size() && !floors.get(firstFloor).getId().equals(afterFloorId)) {
+                firstFloor++;
+            }
+            if (firstFloor == floors.size()) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+        }
+        Long resumeFloorId = afterFloorId;
+        Iterator<Long> candidates = floors.subList(firstFloor, floors.size()).stream()
+                .flatMap(f -> topologyService.getSeatIdsByFloor(f.getId()).stream()
+                        .filter(id -> !f.getId().equals(resumeFloorId) || id > after))
+                .iterator();
+        return findAvailableSeats(candidates, start, end, limitVal);
+    }
+
+    // 오름차순 후보 좌석을 앞에서부터 확인하며 limit 개를 찾으면 중단
+    // BROKEN 여부는 후보를 일정 크기로 나누어 조회
+    private CursorPage<Long> findAvailableSeats(Iterator<Long> candidates, LocalDateTime start, LocalDateTime end, int limit) {
+        Map<LocalDate, long[]> window = SeatAvailabilityBitmap.masksOf(start, end);
+        int chunkSize = Math.max(limit * 4, 64);
+        List<Long> found = new ArrayList<>();
+        while (candidates.hasNext() && found.size() <= limit) {
+            List<Long> chunk = new ArrayList<>(chunkSize);
+            while (candidates.hasNext() && chunk.size() < chunkSize) {
+                chunk.add(candidates.next());
+            }
+            Set<Long> brokenSeatIds = new HashSet<>(seatRepository.findIdsByIdInAndStatus(chunk, SeatStatus.BROKEN));
+            for (Long id : chunk) {
+                if (!brokenSeatIds.contains(id) && isSeatFree(id, start, end, window)) {
+                    found.add(id);
+                    if (found.size() > limit) {
+                        break;
+                    }
+                }
+            }
+        }
+        if (found.size() > limit) {
+            List<Long> items = new ArrayList<>(found.subList(0, limit));
+            return CursorPage.of(items, PageCursor.encode(items.get(items.size() - 1)));
+        }
+        return CursorPage.of(found, null);
+    }
+
+    // 슬롯 비트맵이 겹치지 않으면 바로 통과, 겹치는 좌석만 인터벌 인덱스로 정확히 확인
+    private boolean isSeatFree(Long seatId, LocalDateTime start, LocalDateTime end, Map<LocalDate, long[]> window) {
+        return !availabilityBitmap.mayOverlap(seatId, window) || !intervalIndex.overlaps(seatId, start, end, null);
     }
 
     // U0104: 예약 시간 연장
-    @Transactional
+    @Timed(value = "reservation.operation", extraTags = {"operation", "extend"}, histogram = true)
     public ReservationResponse extendReservation(Long id, LocalDateTime newEndTime, Long employeeId) {
+        return commandPipeline.execute(seatIdOf(id), group -> doExtendReservation(id, newEndTime, employeeId, group));
+    }
+
+    private ReservationResponse doExtendReservation(Long id, LocalDateTime newEndTime, Long employeeId,
+                                                    SeatCommandPipeline.Group group) {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Reservation not found"));
         // IN_USE 상태만 연장 가능
         if (reservation.getStatus() != ReservationStatus.IN_USE) {
-            throw new IllegalStateException("예약 시간 연장은 IN_USE 상태에서만 가능합니다.");
+            throw rejectedState(Rejection.INVALID_STATUS, "예약 시간 연장은 IN_USE 상태에서만 가능합니다.");
         }
         // 예약자와 요청자 id 일치 검증
         if (!reservation.getEmployeeId().equals(employeeId)) {
-            throw new IllegalArgumentException("예약 연장 권한이 없습니다.");
+            throw rejected(Rejection.NOT_OWNER, "예약 연장 권한이 없습니다.");
         }
         // 좌석 상태 확인 (UNAVAILABLE 불가)
-        Seat seat = seatRepository.findById(reservation.getSeatId())
-                .orElseThrow(() -> new IllegalArgumentException("좌석 정보가 없습니다."));
+        Seat seat = seatRepository.findForBookingById(reservation.getSeatId())
+                .orElseThrow(() -> rejected(Rejection.SEAT_NOT_FOUND, "좌석 정보가 없습니다."));
         if (seat.getStatus() == SeatStatus.UNAVAILABLE) {
-            throw new IllegalArgumentException("사용 불가 좌석은 연장할 수 없습니다.");
+            throw rejected(Rejection.SEAT_NOT_AVAILABLE, "사용 불가 좌석은 연장할 수 없습니다.");
         }
         // 기존 예약 종료시간에서 1시간만 연장 가능
         if (!newEndTime.equals(reservation.getEndTime().plusHours(1))) {
-            throw new IllegalArgumentException("예약 연장은 1시간 단위로만 가능합니다.");
+            throw rejected(Rejection.EXTENSION_RULE, "예약 연장은 1시간 단위로만 가능합니다.");
         }
         // 연장 후 종료시간이 다음날 0시를 넘을 수 없음
         LocalDateTime dayEnd = reservation.getStartTime().toLocalDate().atStartOfDay().plusDays(1);
         if (!newEndTime.isBefore(dayEnd)) {
-            throw new IllegalArgumentException("연장 후 종료시간은 다음날 0시를 넘을 수 없습니다.");
-        }
-        // 같은 좌석의 다른 임직원 RESERVED, IN_USE 예약과 겹치면 안 됨
-        List<Reservation> overlapping = reservationRepository.findAll().stream()
-                .filter(r -> r.getSeatId().equals(reservation.getSeatId()))
-                .filter(r -> r.getStatus() == ReservationStatus.RESERVED || r.getStatus() == ReservationStatus.IN_USE)
-                .filter(r -> !r.getId().equals(id))
-                .filter(r -> !(r.getEndTime().isBefore(reservation.getEndTime()) || r.getStartTime().isAfter(newEndTime)))
-                .toList();
-        if (!overlapping.isEmpty()) {
-            throw new IllegalArgumentException("해당 좌석은 이미 예약되어 있습니다.");
+            throw rejected(Rejection.EXTENSION_RULE, "연장 후 종료시간은 다음날 0시를 넘을 수 없습니다.");
+        }
+        // 같은 좌석의 다른 임직원 PENDING, RESERVED, IN_USE 예약과 겹치면 안 됨
+        // (연장 구간은 원 예약의 마지막 슬롯과 맞닿아 마스크가 항상 겹치므로 예약 테이블로 확인한 뒤 마스크를 다시 계산함)
+        if (intervalIndex.overlaps(reservation.getSeatId(), reservation.getEndTime(), newEndTime, id)
+                || occupancyIndex.overlaps(reservation.getSeatId(), reservation.getEndTime(), newEndTime,
+                        () -> reservationRepository.existsOverlappingExcluding(reservation.getSeatId(), SeatIntervalIndex.OCCUPYING_STATUSES,
+                                reservation.getEndTime(), newEndTime, id))) {
+            throw rejected(Rejection.OVERLAP, "해당 좌석은 이미 예약되어 있습니다.");
         }
         // 1인 1일 최대 8시간 제한 (연장 포함)
-        LocalDateTime dayStart = reservation.getStartTime().toLocalDate().atStartOfDay();
-        long totalSeconds = reservationRepository.findByEmployeeId(employeeId).stream()
-                .filter(r -> !r.getStartTime().isAfter(dayEnd) && !r.getEndTime().isBefore(dayStart))
-                .mapToLong(r -> Math.min(r.getEndTime().toEpochSecond(java.time.ZoneOffset.UTC), dayEnd.toEpochSecond(java.time.ZoneOffset.UTC))
-                        - Math.max(r.getStartTime().toEpochSecond(java.time.ZoneOffset.UTC), dayStart.toEpochSecond(java.time.ZoneOffset.UTC)))
-                .sum();
-        long newSeconds = newEndTime.toEpochSecond(java.time.ZoneOffset.UTC) - reservation.getStartTime().toEpochSecond(java.time.ZoneOffset.UTC);
-        if (newSeconds > 8 * 3600 || totalSeconds > 8 * 3600) {
-            throw new IllegalArgumentException("1일 최대 예약 가능 시간(8시간)을 초과합니다.");
+        if (exceedsDailyLimit(employeeId, id, reservation.getStartTime(), newEndTime, List.of())) {
+            throw rejected(Rejection.DAILY_LIMIT, "1일 최대 예약 가능 시간(8시간)을 초과합니다.");
         }
         // 연장 예약 생성
         Reservation extended = new Reservation();
         extended.setEmployeeId(reservation.getEmployeeId());
+        extended.setSeat(seat);
         extended.setSeatId(reservation.getSeatId());
         extended.setStartTime(reservation.getStartTime());
         extended.setEndTime(newEndTime);
@@ -210,10 +392,14 @@ public class ReservationService {
         extended.setCreatedAt(LocalDateTime.now());
         extended.setExtendedFromReservationId(reservation.getId());
         Reservation saved = reservationRepository.save(extended);
+        occupancyIndex.occupy(saved.getSeatId(), reservation.getEndTime(), newEndTime);
+        group.add(saved.getEmployeeId(), saved.getSeatId(), reservation.getEndTime(), newEndTime);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(saved, null));
         return toResponse(saved);
     }
 
     // U0105: 예약 이력 조회
+    @Timed(value = "reservation.operation", extraTags = {"operation", "history"}, histogram = true)
     public List<ReservationResponse> getReservationHistory(Long employeeId, LocalDateTime start, LocalDateTime end, Integer skip, Integer limit) {
         // 입력 데이터 검증
         if (employeeId == null || start == null || end == null) {
@@ -222,35 +408,97 @@ public class ReservationService {
         if (end.isBefore(start)) {
             throw new IllegalArgumentException("종료일자가 시작일자보다 빠를 수 없습니다.");
         }
-        int skipVal = (skip == null) ? 0 : skip;
-        int limitVal = (limit == null) ? 5 : limit;
-        return reservationRepository.findByEmployeeId(employeeId).stream()
-            .filter(r -> !r.getStartTime().isAfter(end) && !r.getEndTime().isBefore(start))
-            .sorted(Comparator.comparing(Reservation::getStartTime))
+        int skipVal = skipOf(skip);
+        int limitVal = pageSize(limit);
+        // 합친 순서의 앞 skip + limit 건은 각 테이블의 (startTime, id) 순 앞 skip + limit 건 안에 있으므로 그만큼만 읽음
+        // 조회 구간이 보관 경계 이전까지 닿을 때만 보관 이력을 합침 (운영 테이블을 먼저 읽어야 함, mergeHistory 참고)
+        Pageable page = PageRequest.of(0, skipVal + limitVal);
+        List<ReservationResponse> live = reservationRepository.findHistoryFirstPage(employeeId, start, end, page).stream()
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+        List<ReservationArchive> archived = archiveReader.findHistoryPage(employeeId, start, end, null, null, page);
+        return mergeHistory(live, archived).stream()
             .skip(skipVal)
             .limit(limitVal)
-            .map(this::toResponse)
             .collect(Collectors.toList());
     }
 
+    // U0105: 예약 이력 조회 ((startTime, id) 키셋 페이지)
+    @Timed(value = "reservation.operation", extraTags = {"operation", "history_page"}, histogram = true)
+    public CursorPage<ReservationResponse> getReservationHistoryPage(Long employeeId, LocalDateTime start, LocalDateTime end,
+                                                                     String cursor, Integer limit) {
+        if (employeeId == null || start == null || end == null) {
+            throw new IllegalArgumentException("필수 입력값이 누락되었습니다.");
+        }
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("종료일자가 시작일자보다 빠를 수 없습니다.");
+        }
+        int limitVal = pageSize(limit);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable page = PageRequest.of(0, limitVal + 1);
+        List<Reservation> rows;
+        List<ReservationArchive> archived;
+        if (cursor == null) {
+            rows = reservationRepository.findHistoryFirstPage(employeeId, start, end, page);
+            archived = archiveReader.findHistoryPage(employeeId, start, end, null, null, page);
+        } else {
+            PageCursor.TimeAndId after = PageCursor.decodeTimeAndId(cursor);
+            rows = reservationRepository.findHistoryPageAfter(employeeId, start, end, after.startTime(), after.id(), page);
+            archived = archiveReader.findHistoryPage(employeeId, start, end, after.startTime(), after.id(), page);
+        }
+        // 두 저장소의 페이지를 (startTime, id) 순으로 합쳐 limit + 1 건까지 사용
+        List<ReservationResponse> merged = mergeHistory(
+                rows.stream().map(this::toResponse).collect(Collectors.toList()), archived);
+        String nextCursor = null;
+        if (merged.size() > limitVal) {
+            merged = merged.subList(0, limitVal);
+            ReservationResponse last = merged.get(merged.size() - 1);
+            nextCursor = PageCursor.encode(last.startTime, last.id);
+        }
+        return CursorPage.of(merged, nextCursor);
+    }
+
+    // 운영 이력과 보관 이력을 (startTime, id) 순으로 합침 (보관 이력이 없으면 그대로 반환)
+    // 두 테이블은 따로 읽으므로 그 사이에 보관된 chunk 는 양쪽에 모두 나올 수 있어 id 로 한 번만 남긴다.
+    // 운영 테이블을 먼저 읽으면 그 사이에 옮겨진 행은 적어도 한쪽에는 있으므로 빠지지 않는다.
+    private List<ReservationResponse> mergeHistory(List<ReservationResponse> live, List<ReservationArchive> archived) {
+        if (archived.isEmpty()) {
+            return live;
+        }
+        List<ReservationResponse> merged = new ArrayList<>(live.size() + archived.size());
+        merged.addAll(live);
+        Set<Long> liveIds = live.stream().map(r -> r.id).collect(Collectors.toSet());
+        for (ReservationArchive a : archived) {
+            if (!liveIds.contains(a.getId())) {
+                merged.add(toResponse(a));
+            }
+        }
+        merged.sort(Comparator.<ReservationResponse, LocalDateTime>comparing(r -> r.startTime).thenComparing(r -> r.id));
+        return merged;
+    }
+
     // U0202: 체크인
-    @Transactional
+    @Timed(value = "reservation.operation", extraTags = {"operation", "check_in"}, histogram = true)
     public ReservationResponse checkIn(Long id, Long employeeId) {
+        return commandPipeline.execute(seatIdOf(id), group -> doCheckIn(id, employeeId));
+    }
+
+    private ReservationResponse doCheckIn(Long id, Long employeeId) {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Reservation not found"));
         // 체크인 수행하는 좌석은 AVAILABLE이어야 함
         Seat seat = seatRepository.findById(reservation.getSeatId())
-                .orElseThrow(() -> new IllegalArgumentException("좌석 정보가 없습니다."));
+                .orElseThrow(() -> rejected(Rejection.SEAT_NOT_FOUND, "좌석 정보가 없습니다."));
         if (seat.getStatus() != SeatStatus.AVAILABLE) {
-            throw new IllegalStateException("체크인 가능한 좌석이 아닙니다.");
+            throw rejectedState(Rejection.SEAT_NOT_AVAILABLE, "체크인 가능한 좌석이 아닙니다.");
         }
         // 체크인 수행하는 예약은 RESERVED 상태여야 함
         if (reservation.getStatus() != ReservationStatus.RESERVED) {
-            throw new IllegalStateException("체크인 가능한 예약이 아닙니다.");
+            throw rejectedState(Rejection.INVALID_STATUS, "체크인 가능한 예약이 아닙니다.");
         }
         // 체크인 요청자와 예약자 id 일치 검증
         if (!reservation.getEmployeeId().equals(employeeId)) {
-            throw new IllegalArgumentException("체크인 권한이 없습니다.");
+            throw rejected(Rejection.NOT_OWNER, "체크인 권한이 없습니다.");
         }
         // 상태 변경
         reservation.setStatus(ReservationStatus.IN_USE);
@@ -258,44 +506,235 @@ public class ReservationService {
         seat.setStatus(SeatStatus.UNAVAILABLE);
         seatRepository.save(seat);
         Reservation saved = reservationRepository.save(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(saved, ReservationStatus.RESERVED));
+        eventPublisher.publishEvent(SeatStatusChangedEvent.of(seat, SeatStatus.AVAILABLE, saved.getId()));
         return toResponse(saved);
     }
 
     // U0205: 좌석 반납
-    @Transactional
+    @Timed(value = "reservation.operation", extraTags = {"operation", "return"}, histogram = true)
     public ReservationResponse returnSeat(Long id, Long employeeId) {
+        return commandPipeline.execute(seatIdOf(id), group -> doReturnSeat(id, employeeId));
+    }
+
+    private ReservationResponse doReturnSeat(Long id, Long employeeId) {
         Reservation reservation = reservationRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Reservation not found"));
         // IN_USE 상태만 반납 가능
         if (reservation.getStatus() != ReservationStatus.IN_USE) {
-            throw new IllegalStateException("좌석 반납은 IN_USE 상태에서만 가능합니다.");
+            throw rejectedState(Rejection.INVALID_STATUS, "좌석 반납은 IN_USE 상태에서만 가능합니다.");
         }
         // 좌석 UNAVAILABLE 상태만 반납 가능
         Seat seat = seatRepository.findById(reservation.getSeatId())
-                .orElseThrow(() -> new IllegalArgumentException("좌석 정보가 없습니다."));
+                .orElseThrow(() -> rejected(Rejection.SEAT_NOT_FOUND, "좌석 정보가 없습니다."));
         if (seat.getStatus() != SeatStatus.UNAVAILABLE) {
-            throw new IllegalStateException("좌석 반납은 UNAVAILABLE 상태에서만 가능합니다.");
+            throw rejectedState(Rejection.SEAT_NOT_AVAILABLE, "좌석 반납은 UNAVAILABLE 상태에서만 가능합니다.");
         }
         // 반납 요청자와 예약자 id 일치 검증
         if (!reservation.getEmployeeId().equals(employeeId)) {
-            throw new IllegalArgumentException("좌석 반납 권한이 없습니다.");
+            throw rejected(Rejection.NOT_OWNER, "좌석 반납 권한이 없습니다.");
         }
-        // 해당 좌석의 모든 IN_USE 예약을 COMPLETED로 변경
-        List<Reservation> inUseReservations = reservationRepository.findAll().stream()
-                .filter(r -> r.getSeatId().equals(seat.getId()))
-                .filter(r -> r.getStatus() == ReservationStatus.IN_USE)
-                .toList();
+        // 해당 좌석의 모든 IN_USE 예약을 COMPLETED로 변경 (일괄 갱신)
+        LocalDateTime completedAt = LocalDateTime.now();
+        List<Reservation> inUseReservations = reservationRepository.lockBySeatIdAndStatus(seat.getId(), ReservationStatus.IN_USE);
+        reservationRepository.transitionBySeat(seat.getId(), ReservationStatus.IN_USE, ReservationStatus.COMPLETED, completedAt);
         for (Reservation r : inUseReservations) {
             r.setStatus(ReservationStatus.COMPLETED);
-            reservationRepository.save(r);
+            r.setCompletedAt(completedAt);
+            eventPublisher.publishEvent(ReservationChangedEvent.of(r, ReservationStatus.IN_USE));
         }
         // 좌석 상태 AVAILABLE로 변경
         seat.setStatus(SeatStatus.AVAILABLE);
         seatRepository.save(seat);
+        eventPublisher.publishEvent(SeatStatusChangedEvent.of(seat, SeatStatus.UNAVAILABLE, reservation.getId()));
         // 반환된 예약 정보 반환 (반납 요청한 예약)
         reservation.setStatus(ReservationStatus.COMPLETED);
-        Reservation saved = reservationRepository.save(reservation);
-        return toResponse(saved);
+        reservation.setCompletedAt(completedAt);
+        return toResponse(reservation);
+    }
+
+    // 예약 요청 입력값 검증
+    private void validateRequest(ReservationRequest req) {
+        if (req.employeeId == null || req.seatId == null || req.startTime == null || req.endTime == null) {
+            throw rejected(Rejection.MISSING_FIELDS, "필수 입력값이 누락되었습니다.");
+        }
+        if (!req.startTime.isAfter(LocalDateTime.now())) {
+            throw rejected(Rejection.START_IN_PAST, "예약 시작 시간은 현재 시간보다 미래여야 합니다.");
+        }
+        if (!req.endTime.isAfter(req.startTime)) {
+            throw rejected(Rejection.INVALID_TIME_RANGE, "종료 시간은 시작 시간보다 이후여야 합니다.");
+        }
+        if (req.endTime.minusHours(8).isAfter(req.startTime)) {
+            throw rejected(Rejection.MAX_DURATION, "예약은 최대 8시간까지 가능합니다.");
+        }
+    }
+
+    // 좌석 상태, 중복 예약, 1인 1일 8시간 제한 검증
+    // pending 은 같은 요청 묶음에서 먼저 승인되었지만 아직 커밋되지 않아 인덱스에 없는 예약,
+    // unsaved 는 그중 아직 저장(flush)되지 않아 DB 합계에도 잡히지 않는 예약
+    private void checkBookable(ReservationRequest req, Seat seat, List<Reservation> pending, List<Reservation> unsaved,
+                               BooleanSupplier storedOverlap) {
+        // 좌석 상태 확인 (BROKEN 불가)
+        if (seat.getStatus() == SeatStatus.BROKEN) {
+            throw rejected(Rejection.BROKEN_SEAT, "고장난 좌석은 예약할 수 없습니다.");
+        }
+
+        // 같은 좌석에 대해 다른 임직원의 PENDING, RESERVED, IN_USE 예약과 겹치면 안 됨
+        if (intervalIndex.overlaps(req.seatId, req.startTime, req.endTime, null)
+                || overlapsAny(pending, req.seatId, req.startTime, req.endTime)
+                || storedOverlap.getAsBoolean()) {
+            throw rejected(Rejection.OVERLAP, "해당 좌석은 이미 예약되어 있습니다.");
+        }
+
+        // 1인 1일 최대 8시간 제한 (해당 날짜의 예약 총합)
+        List<Reservation> pendingOfEmployee = unsaved.stream()
+                .filter(r -> r.getEmployeeId().equals(req.employeeId))
+                .toList();
+        if (exceedsDailyLimit(req.employeeId, null, req.startTime, req.endTime, pendingOfEmployee)) {
+            throw rejected(Rejection.DAILY_LIMIT, "1일 최대 예약 가능 시간(8시간)을 초과합니다.");
+        }
+    }
+
+    private static boolean overlapsAny(List<Reservation> reservations, Long seatId, LocalDateTime start, LocalDateTime end) {
+        return reservations.stream()
+                .filter(r -> seatId.equals(r.getSeatId()))
+                .anyMatch(r -> !(r.getEndTime().isBefore(start) || r.getStartTime().isAfter(end)));
+    }
+
+    private static Reservation newReservation(ReservationRequest req, Seat seat) {
+        Reservation reservation = new Reservation();
+        reservation.setEmployeeId(req.employeeId);
+        reservation.setSeat(seat);
+        reservation.setSeatId(req.seatId);
+        reservation.setStartTime(req.startTime);
+        reservation.setEndTime(req.endTime);
+        reservation.setStatus(ReservationStatus.PENDING);
+        reservation.setCreatedAt(LocalDateTime.now());
+        return reservation;
+    }
+
+    // 조회 건수 (없으면 기본값, 최대 MAX_PAGE_SIZE 건으로 제한)
+    private static int pageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("조회 건수는 1 이상이어야 합니다.");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    private static int skipOf(Integer skip) {
+        if (skip == null) {
+            return 0;
+        }
+        if (skip < 0) {
+            throw new IllegalArgumentException("건너뛸 건수는 0 이상이어야 합니다.");
+        }
+        if (skip > MAX_SKIP) {
+            throw new IllegalArgumentException("건너뛸 건수는 " + MAX_SKIP + " 이하여야 합니다. 이후 목록은 커서 기반 페이지로 조회해 주세요.");
+        }
+        return skip;
+    }
+
+    private Long seatIdOf(Long reservationId) {
+        return reservationRepository.findSeatIdById(reservationId)
+                .orElseThrow(() -> new RuntimeException("Reservation not found"));
+    }
+
+    // 거절 사유별 카운터를 올리고 예외를 만들어 반환
+    private IllegalArgumentException rejected(Rejection reason, String message) {
+        metrics.rejected(reason);
+        return new IllegalArgumentException(message);
+    }
+
+    private IllegalStateException rejectedState(Rejection reason, String message) {
+        metrics.rejected(reason);
+        return new IllegalStateException(message);
+    }
+
+    // 여러 좌석을 한 트랜잭션에서 바꾸는 일괄 예약용. 좌석 락을 잡은 채로 트랜잭션을 실행 (인덱스 갱신은 커밋 직후 락 안에서 반영됨)
+    // (좌석 하나의 변경은 SeatCommandPipeline 으로 처리하며, 파이프라인 작업 스레드도 같은 좌석 락을 잡음)
+    // 다른 인스턴스와 같은 좌석을 동시에 변경해 낙관적 락 충돌이 나면 처음부터 다시 검증
+    private <T> T inSeatTransaction(Collection<Long> seatIds, Supplier<T> action) {
+        return seatLocks.withSeatLocks(seatIds, () -> {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionTemplate.execute(status -> action.get());
+                } catch (OptimisticLockingFailureException e) {
+                    if (attempt >= MAX_CONFLICT_RETRIES) {
+                        metrics.rejected(Rejection.CONFLICT_RETRY_EXHAUSTED);
+                        throw new IllegalStateException("좌석 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.", e);
+                    }
+                }
+            }
+        });
+    }
+
+    // 예약 구간이 걸치는 각 일자의 누적 예약 시간이 8시간을 넘는지 확인 (reservationId 는 연장 대상 예약)
+    // 다른 인스턴스가 커밋한 예약도 포함되도록 예약 트랜잭션 안에서 DB 의 예약 구간을 읽어 합산한다.
+    // 연장 예약은 원 예약과 같은 체인으로 묶어 체인의 가장 긴 구간만 계산
+    private boolean exceedsDailyLimit(Long employeeId, Long reservationId, LocalDateTime start, LocalDateTime end,
+                                      List<Reservation> unsaved) {
+        LocalDateTime from = start.toLocalDate().atStartOfDay();
+        LocalDateTime to = end.toLocalDate().plusDays(1).atStartOfDay();
+        // 예약은 최대 8시간이고 연장은 시작 다음날 0시를 넘지 않으므로 하루 전 시작분까지만 보면 됨
+        List<Object[]> rows = reservationRepository.findUsageIntervals(employeeId, USAGE_STATUSES,
+                from.minusDays(1), from, to);
+        Map<Long, Long> parentOf = new HashMap<>();
+        for (Object[] row : rows) {
+            if (row[3] != null) {
+                parentOf.put((Long) row[0], (Long) row[3]);
+            }
+        }
+        Map<Long, LocalDateTime[]> chains = new HashMap<>();
+        for (Object[] row : rows) {
+            longestOf(chains, chainRoot(parentOf, (Long) row[0]), (LocalDateTime) row[1], (LocalDateTime) row[2]);
+        }
+        if (reservationId != null) {
+            longestOf(chains, chainRoot(parentOf, reservationId), start, end);
+        }
+        List<LocalDateTime[]> intervals = new ArrayList<>(chains.values());
+        if (reservationId == null) {
+            intervals.add(new LocalDateTime[]{start, end});
+        }
+        for (Reservation r : unsaved) {
+            intervals.add(new LocalDateTime[]{r.getStartTime(), r.getEndTime()});
+        }
+
+        for (LocalDate day = start.toLocalDate(); !day.isAfter(end.toLocalDate()); day = day.plusDays(1)) {
+            long seconds = 0;
+            for (LocalDateTime[] interval : intervals) {
+                seconds += secondsWithin(interval[0], interval[1], day);
+            }
+            if (seconds > MAX_DAILY_SECONDS) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Long chainRoot(Map<Long, Long> parentOf, Long id) {
+        Long root = id;
+        for (Long parent = parentOf.get(root); parent != null; parent = parentOf.get(root)) {
+            root = parent;
+        }
+        return root;
+    }
+
+    // [start, end] 구간 중 해당 일자에 속하는 시간(초)
+    private static long secondsWithin(LocalDateTime start, LocalDateTime end, LocalDate day) {
+        long dayStart = day.atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        long dayEnd = day.plusDays(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+        long seconds = Math.min(end.toEpochSecond(ZoneOffset.UTC), dayEnd) - Math.max(start.toEpochSecond(ZoneOffset.UTC), dayStart);
+        return Math.max(seconds, 0);
+    }
+
+    private static void longestOf(Map<Long, LocalDateTime[]> chains, Long chainId, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime[] current = chains.get(chainId);
+        if (current == null || end.isAfter(current[1])) {
+            chains.put(chainId, new LocalDateTime[]{start, end});
+        }
     }
 
     private ReservationResponse toResponse(Reservation reservation) {
@@ -308,4 +747,15 @@ public class ReservationService {
         res.status = reservation.getStatus().name();
         return res;
     }
+
+    private ReservationResponse toResponse(ReservationArchive archived) {
+        ReservationResponse res = new ReservationResponse();
+        res.id = archived.getId();
+        res.employeeId = archived.getEmployeeId();
+        res.seatId = archived.getSeatId();
+        res.startTime = archived.getStartTime();
+        res.endTime = archived.getEndTime();
+        res.status = archived.getStatus().name();
+        return res;
+    }
 }
@@ -0,0 +1,361 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Reservation;
+import com.example.demo.metrics.ReservationMetrics;
+import com.example.demo.metrics.ReservationMetrics.Rejection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// 좌석 변경 명령 파이프라인
+// 좌석 id 로 샤드를 정하고, 샤드마다 하나의 작업 스레드가 대기열의 명령을 도착 순서대로 묶어 한 트랜잭션에서 실행한다.
+// 같은 좌석의 명령은 항상 같은 작업 스레드가 차례로 처리하므로 출근 시간대 몰림에서도 락 대기와 충돌 재시도가 생기지 않고,
+// 묶음 하나가 커밋 한 번으로 끝난다. 요청 스레드는 명령별 CompletableFuture 의 완료를 기다린다.
+//
+// 묶음 안의 명령은 앞 명령의 쓰기를 보고 실행되며(명령마다 flush), 거절(검증 예외)된 명령은 쓰기 전에 실패하므로 묶음에 영향이 없다.
+// DB 오류나 커밋 실패로 묶음이 롤백되면 각 명령을 개별 트랜잭션으로 다시 실행한다.
+// 여러 좌석을 한 트랜잭션에서 바꾸는 작업(일괄 예약)은 좌석 락으로 처리하며, 작업 스레드도 묶음의 좌석 락을 잡고 실행해 서로 배제된다.
+// Idempotency-Key 요청에서 넘긴 명령은 결과를 같은 트랜잭션에서 IdempotencyStore.Recorder 로 저장한다.
+// 거절 지표는 시도마다 모아 두었다가 결과를 전달할 때 한 번만 집계한다. (롤백된 묶음 시도의 거절은 세지 않음)
+//
+// 명령 접수는 lifecycle 읽기 락, stop() 은 쓰기 락 안에서 running 을 바꾸므로 멈춘 뒤에는 대기열에 명령이 들어가지 않는다.
+// stop() 은 작업 스레드가 처리 중인 묶음을 마치고 끝나기를 기다린 뒤, 대기열에 남은 명령을 실패로 돌려준다.
+@Component
+public class SeatCommandPipeline implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(SeatCommandPipeline.class);
+    private static final int MAX_CONFLICT_RETRIES = 3;
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final SeatLockStripes seatLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ReservationMetrics metrics;
+    private final int maxGroupSize;
+    private final long commandTimeoutMillis;
+    private final List<BlockingQueue<Command<?>>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final ReentrantReadWriteLock lifecycle = new ReentrantReadWriteLock();
+    private volatile boolean running;
+
+    public SeatCommandPipeline(SeatLockStripes seatLocks, PlatformTransactionManager transactionManager,
+                               EntityManager entityManager, ReservationMetrics metrics,
+                               @Value("${reservation.pipeline.shards:8}") int shards,
+                               @Value("${reservation.pipeline.queue-capacity:10000}") int queueCapacity,
+                               @Value("${reservation.pipeline.max-group-size:32}") int maxGroupSize,
+                               @Value("${reservation.pipeline.command-timeout-ms:30000}") long commandTimeoutMillis) {
+        if (shards < 1 || queueCapacity < 1 || maxGroupSize < 1 || commandTimeoutMillis < 1) {
+            throw new IllegalArgumentException("좌석 명령 파이프라인 설정값은 1 이상이어야 합니다.");
+        }
+        this.seatLocks = seatLocks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.metrics = metrics;
+        this.maxGroupSize = maxGroupSize;
+        this.commandTimeoutMillis = commandTimeoutMillis;
+        for (int i = 0; i < shards; i++) {
+            queues.add(new LinkedBlockingQueue<>(queueCapacity));
+        }
+    }
+
+    // 좌석의 명령을 대기열에 넣고 완료를 기다려 결과 반환 (파이프라인이 시작 전이거나 멈춰 있으면 호출 스레드에서 바로 실행)
+    // 결과는 command-timeout-ms 까지만 기다림 (시간이 지나도 명령은 나중에 실행될 수 있음)
+    public <T> T execute(Long seatId, Function<Group, T> action) {
+        if (!running) {
+            Command<T> command = new Command<>(seatId, recorded(action), new CompletableFuture<>(), new ArrayList<>());
+            try {
+                return seatLocks.withSeatLock(seatId, () -> runAlone(command));
+            } finally {
+                metrics.rejected(command.rejections());
+            }
+        }
+        try {
+            return submit(seatId, action).get(commandTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("좌석 요청 처리 결과를 기다리지 못했습니다. 예약 내역을 확인한 뒤 다시 시도해 주세요.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("좌석 요청 처리를 기다리는 중 중단되었습니다.", e);
+        }
+    }
+
+    // 멈춘 뒤(또는 시작 전)에 넘긴 명령은 대기열에 넣지 않고 바로 실패로 돌려줌
+    public <T> CompletableFuture<T> submit(Long seatId, Function<Group, T> action) {
+        Command<T> command = new Command<>(seatId, recorded(action), new CompletableFuture<>(), new ArrayList<>());
+        lifecycle.readLock().lock();
+        try {
+            if (!running) {
+                command.future().completeExceptionally(shuttingDown());
+            } else if (!queues.get(shardOf(seatId)).offer(command)) {
+                metrics.rejected(Rejection.PIPELINE_FULL);
+                command.future().completeExceptionally(
+                        new IllegalStateException("좌석 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."));
+            }
+        } finally {
+            lifecycle.readLock().unlock();
+        }
+        return command.future();
+    }
+
+    // 요청 스레드가 Idempotency-Key 요청을 처리 중이면 명령 결과를 명령 트랜잭션 안에서 응답으로 저장
+    private static <T> Function<Group, T> recorded(Function<Group, T> action) {
+        IdempotencyStore.Recorder recorder = IdempotencyStore.currentRecorder();
+        if (recorder == null) {
+            return action;
+        }
+        return group -> recorder.record(action.apply(group));
+    }
+
+    public int queuedCount() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    private int shardOf(Long seatId) {
+        return Math.floorMod(Long.hashCode(seatId), queues.size());
+    }
+
+    // running 이 꺼지면 처리 중인 묶음을 마치고 끝남 (남은 명령은 stop() 이 실패로 돌려줌)
+    private void drain(BlockingQueue<Command<?>> queue) {
+        while (running) {
+            Command<?> first;
+            try {
+                first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+            List<Command<?>> group = new ArrayList<>();
+            group.add(first);
+            queue.drainTo(group, maxGroupSize - 1);
+            List<Long> seatIds = group.stream().map(Command::seatId).toList();
+            try {
+                seatLocks.withSeatLocks(seatIds, () -> {
+                    process(group);
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                log.warn("Seat command group of {} failed", group.size(), e);
+                group.stream().filter(command -> !command.future().isDone())
+                        .forEach(command -> fail(command, e));
+            }
+        }
+    }
+
+    private void process(List<Command<?>> group) {
+        metrics.pipelineGroup(group.size());
+        if (group.size() == 1 || !commitGroup(group)) {
+            for (Command<?> command : group) {
+                complete(command);
+            }
+        }
+    }
+
+    // 묶음 전체를 한 트랜잭션에서 실행. 롤백되었으면 false (결과와 거절 지표는 아직 전달하지 않음)
+    private boolean commitGroup(List<Command<?>> group) {
+        List<Object> results = new ArrayList<>(group.size());
+        List<RuntimeException> failures = new ArrayList<>(group.size());
+        try {
+            Boolean committed = transactionTemplate.execute(status -> {
+                Group context = new Group();
+                for (Command<?> command : group) {
+                    try {
+                        results.add(attempt(command, context));
+                        entityManager.flush();
+                        failures.add(null);
+                    } catch (RuntimeException e) {
+                        if (e instanceof DataAccessException || e instanceof PersistenceException || status.isRollbackOnly()) {
+                            status.setRollbackOnly();
+                            return false;
+                        }
+                        results.add(null);
+                        failures.add(e);
+                    }
+                }
+                return true;
+            });
+            if (!Boolean.TRUE.equals(committed)) {
+                metrics.pipelineFallback();
+                return false;
+            }
+        } catch (RuntimeException e) {
+            metrics.pipelineFallback();
+            return false;
+        }
+        for (int i = 0; i < group.size(); i++) {
+            complete(group.get(i), results.get(i), failures.get(i));
+        }
+        return true;
+    }
+
+    // 개별 트랜잭션으로 다시 실행해 결과 전달
+    private <T> void complete(Command<T> command) {
+        T result;
+        try {
+            result = runAlone(command);
+        } catch (RuntimeException e) {
+            fail(command, e);
+            return;
+        }
+        succeed(command, result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void complete(Command<T> command, Object result, RuntimeException failure) {
+        if (failure != null) {
+            fail(command, failure);
+        } else {
+            succeed(command, (T) result);
+        }
+    }
+
+    // 결과를 전달할 때 마지막 시도의 거절만 집계
+    private <T> void succeed(Command<T> command, T result) {
+        metrics.rejected(command.rejections());
+        command.future().complete(result);
+    }
+
+    private void fail(Command<?> command, Throwable failure) {
+        metrics.rejected(command.rejections());
+        command.future().completeExceptionally(failure);
+    }
+
+    // 명령 한 번 실행. 이전 시도(롤백된 묶음, 충돌 재시도)의 거절은 버림
+    private <T> T attempt(Command<T> command, Group context) {
+        command.rejections().clear();
+        return metrics.deferRejections(command.rejections(), () -> command.action().apply(context));
+    }
+
+    // 명령 하나를 개별 트랜잭션으로 실행 (다른 인스턴스와의 낙관적 락 충돌이면 처음부터 다시 검증)
+    private <T> T runAlone(Command<T> command) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> attempt(command, new Group()));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_CONFLICT_RETRIES) {
+                    command.rejections().add(Rejection.CONFLICT_RETRY_EXHAUSTED);
+                    throw new IllegalStateException("좌석 요청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.", e);
+                }
+            }
+        }
+    }
+
+    private static IllegalStateException shuttingDown() {
+        return new IllegalStateException("서버가 종료 중입니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    @Override
+    public void start() {
+        lifecycle.writeLock().lock();
+        try {
+            if (running) {
+                return;
+            }
+            running = true;
+            for (int i = 0; i < queues.size(); i++) {
+                BlockingQueue<Command<?>> queue = queues.get(i);
+                Thread thread = new Thread(() -> drain(queue), "seat-command-" + i);
+                thread.setDaemon(true);
+                workers.add(thread);
+                thread.start();
+            }
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void stop() {
+        List<Thread> stopping;
+        lifecycle.writeLock().lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+            stopping = new ArrayList<>(workers);
+            workers.clear();
+        } finally {
+            lifecycle.writeLock().unlock();
+        }
+        // 처리 중인 묶음은 끝까지 실행 (기다려도 끝나지 않으면 인터럽트)
+        for (Thread worker : stopping) {
+            try {
+                worker.join(commandTimeoutMillis);
+                if (worker.isAlive()) {
+                    log.warn("Seat command worker {} did not stop in {} ms", worker.getName(), commandTimeoutMillis);
+                    worker.interrupt();
+                    worker.join(POLL_INTERVAL_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        // 작업 스레드가 끝난 뒤 대기열에 남은 명령은 실패로 돌려줌
+        List<Command<?>> remaining = new ArrayList<>();
+        queues.forEach(queue -> queue.drainTo(remaining));
+        remaining.forEach(command -> fail(command, shuttingDown()));
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 같은 묶음(트랜잭션)에서 먼저 실행된 명령이 만든, 아직 커밋되지 않아 인덱스에 반영되지 않은 예약 구간
+    public static final class Group {
+        private final List<Reservation> pending = new ArrayList<>();
+
+        public List<Reservation> pending() {
+            return pending;
+        }
+
+        public void add(Reservation reservation) {
+            pending.add(reservation);
+        }
+
+        // 연장처럼 기존 예약에 덧붙는 구간 (원 예약은 이미 인덱스에 있으므로 늘어난 구간만 기록)
+        public void add(Long employeeId, Long seatId, LocalDateTime start, LocalDateTime end) {
+            Reservation segment = new Reservation();
+            segment.setEmployeeId(employeeId);
+            segment.setSeatId(seatId);
+            segment.setStartTime(start);
+            segment.setEndTime(end);
+            pending.add(segment);
+        }
+    }
+
+    // rejections 는 마지막 시도에서 모은 거절 사유 (결과를 전달할 때 집계)
+    private record Command<T>(Long seatId, Function<Group, T> action, CompletableFuture<T> future,
+                              List<Rejection> rejections) {}
+}
@@ -0,0 +1,54 @@
+package com.example.demo.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 좌석 id 기반 스트라이프 락. 같은 좌석의 예약 변경만 직렬화하고 다른 좌석은 병렬로 처리한다.
+@Component
+public class SeatLockStripes {
+    private final ReentrantLock[] stripes;
+
+    public SeatLockStripes(@Value("${reservation.seat-lock.stripes:256}") int stripeCount) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withSeatLock(Long seatId, Supplier<T> action) {
+        ReentrantLock lock = stripes[indexOf(seatId)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 여러 좌석의 락을 스트라이프 순서대로 획득 (교착 방지)
+    public <T> T withSeatLocks(Collection<Long> seatIds, Supplier<T> action) {
+        List<ReentrantLock> locks = seatIds.stream()
+                .map(this::indexOf)
+                .distinct()
+                .sorted()
+                .map(index -> stripes[index])
+                .toList();
+        locks.forEach(ReentrantLock::lock);
+        try {
+            return action.get();
+        } finally {
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+        }
+    }
+
+    private int indexOf(Long seatId) {
+        return Math.floorMod(Long.hashCode(seatId), stripes.length);
+    }
+}
@@ -1,46 +1,133 @@
 package com.example.demo.service;
 
+import com.example.demo.dto.FloorSeatStatusResponse;
 import com.example.demo.entity.Floor;
 import com.example.demo.entity.Seat;
 import com.example.demo.repository.SeatRepository;
-import com.example.demo.repository.FloorRepository;
 import com.example.demo.repository.ReservationRepository;
 import com.example.demo.entity.Reservation;
 import com.example.demo.entity.ReservationStatus;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.event.ReservationChangedEvent;
+import com.example.demo.event.SeatStatusChangedEvent;
+import com.example.demo.index.FloorOccupancyReadModel;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 public class SeatService {
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
-    private final FloorRepository floorRepository;
+    private final TopologyService topologyService;
+    private final FloorSeatMapCache seatMapCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatCommandPipeline commandPipeline;
+    private final FloorOccupancyReadModel floorOccupancy;
 
-    public SeatService(SeatRepository seatRepository, ReservationRepository reservationRepository, FloorRepository floorRepository) {
+    public SeatService(SeatRepository seatRepository, ReservationRepository reservationRepository, TopologyService topologyService,
+                       FloorSeatMapCache seatMapCache, ApplicationEventPublisher eventPublisher,
+                       SeatCommandPipeline commandPipeline, FloorOccupancyReadModel floorOccupancy) {
         this.seatRepository = seatRepository;
         this.reservationRepository = reservationRepository;
-        this.floorRepository = floorRepository;
+        this.topologyService = topologyService;
+        this.seatMapCache = seatMapCache;
+        this.eventPublisher = eventPublisher;
+        this.commandPipeline = commandPipeline;
+        this.floorOccupancy = floorOccupancy;
     }
 
-    // A0101: 강제 좌석 반납
-    @Transactional
+    // A0101: 강제 좌석 반납 (같은 좌석의 다른 변경과 함께 좌석 명령 파이프라인에서 순서대로 처리)
+    @Timed(value = "seat.operation", extraTags = {"operation", "force_return"}, histogram = true)
     public void forceReturnSeat(Long seatId) {
+        commandPipeline.execute(seatId, group -> {
+            doForceReturnSeat(seatId);
+            return null;
+        });
+    }
+
+    private void doForceReturnSeat(Long seatId) {
         // IN_USE 상태의 예약을 찾아 FORCED_CANCEL 처리
-        List<Reservation> reservations = reservationRepository.findAll();
-        for (Reservation r : reservations) {
-            if (r.getSeatId().equals(seatId) && r.getStatus() == ReservationStatus.IN_USE) {
+        List<Reservation> reservations = reservationRepository.lockBySeatIdAndStatus(seatId, ReservationStatus.IN_USE);
+        if (!reservations.isEmpty()) {
+            LocalDateTime completedAt = LocalDateTime.now();
+            reservationRepository.transitionBySeat(seatId, ReservationStatus.IN_USE, ReservationStatus.FORCED_CANCEL, completedAt);
+            for (Reservation r : reservations) {
                 r.setStatus(ReservationStatus.FORCED_CANCEL);
-                reservationRepository.save(r);
+                r.setCompletedAt(completedAt);
+                eventPublisher.publishEvent(ReservationChangedEvent.of(r, ReservationStatus.IN_USE));
             }
         }
+        // 사용 중이던 좌석은 다시 AVAILABLE로
+        Long reservationId = reservations.isEmpty() ? null : reservations.get(0).getId();
+        seatRepository.findById(seatId)
+                .filter(seat -> seat.getStatus() == SeatStatus.UNAVAILABLE)
+                .ifPresent(seat -> {
+                    seat.setStatus(SeatStatus.AVAILABLE);
+                    seatRepository.save(seat);
+                    eventPublisher.publishEvent(SeatStatusChangedEvent.of(seat, SeatStatus.UNAVAILABLE, reservationId));
+                });
+    }
+
+    // A0103: 좌석 상태 변경 (고장 등록/해제)
+    @Transactional
+    @Timed(value = "seat.operation", extraTags = {"operation", "change_status"}, histogram = true)
+    public Seat changeSeatStatus(Long seatId, SeatStatus status) {
+        if (status != SeatStatus.BROKEN && status != SeatStatus.AVAILABLE) {
+            throw new IllegalArgumentException("좌석 상태는 BROKEN 또는 AVAILABLE로만 변경할 수 있습니다.");
+        }
+        Seat seat = seatRepository.findById(seatId)
+                .orElseThrow(() -> new IllegalArgumentException("좌석 정보가 없습니다."));
+        // 사용 중인 좌석은 반납(또는 강제 반납) 후에만 변경 가능
+        if (seat.getStatus() == SeatStatus.UNAVAILABLE) {
+            throw new IllegalStateException("사용 중인 좌석은 상태를 변경할 수 없습니다.");
+        }
+        SeatStatus oldStatus = seat.getStatus();
+        if (oldStatus == status) {
+            return seat;
+        }
+        seat.setStatus(status);
+        Seat saved = seatRepository.save(seat);
+        eventPublisher.publishEvent(SeatStatusChangedEvent.of(saved, oldStatus, null));
+        return saved;
+    }
+
+    // U0201: 좌석 현황 조회 (층 단위 캐시, 좌석 상태 변경 시 해당 층만 무효화)
+    @Timed(value = "seat.operation", extraTags = {"operation", "floor_status"}, histogram = true)
+    public FloorSeatStatusResponse getSeatsByBuildingAndFloor(Long buildingId, int floor) {
+        return seatMapCache.get(buildingId, floor, () -> {
+            Floor floorEntity = topologyService.findFloor(buildingId, floor)
+                .orElseThrow(() -> new IllegalArgumentException("Floor not found in the specified building"));
+            return new FloorSeatMapCache.Loaded(floorEntity.getId(), toSeatStatusResponse(floorEntity));
+        });
+    }
+
+    // 엔티티 대신 좌석별 요약만 조회하고, 빌딩/층 정보는 응답 머리에 한 번만 담음
+    private FloorSeatStatusResponse toSeatStatusResponse(Floor floor) {
+        FloorSeatStatusResponse res = new FloorSeatStatusResponse();
+        if (floor.getBuilding() != null) {
+            res.buildingId = floor.getBuilding().getId();
+            res.buildingName = floor.getBuilding().getName();
+        }
+        res.floorId = floor.getId();
+        res.floor = floor.getFloor();
+        res.seats = List.copyOf(seatRepository.findStatusViewsByFloorId(floor.getId(), ReservationStatus.IN_USE));
+        return res;
+    }
+
+    // A0104: 빌딩/층/좌석 구성 다시 적재 (층 좌석 현황 캐시를 비우고 층별 점유 현황도 다시 만듦)
+    public TopologyService.Stats refreshTopology() {
+        TopologyService.Stats stats = topologyService.refresh();
+        seatMapCache.clear();
+        floorOccupancy.rebuild();
+        return stats;
     }
 
-    // U0201: 좌석 현황 조회
-    public List<Seat> getSeatsByBuildingAndFloor(Long buildingId, int floor) {
-        Floor floorEntity = floorRepository.findByBuildingIdAndFloor(buildingId, floor)
-            .orElseThrow(() -> new IllegalArgumentException("Floor not found in the specified building"));
-        return seatRepository.findByFloorId(floorEntity.getId());
+    public FloorSeatMapCache.Stats getSeatMapCacheStats() {
+        return seatMapCache.stats();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.FloorSeatStatusResponse;
+import com.example.demo.dto.SeatStatusDelta;
+import com.example.demo.entity.Floor;
+import com.example.demo.event.SeatStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 층별 좌석 상태 스트림 (SSE). 구독 시 현황 전체를 한 번 보내고 이후에는 변경분만 전송
+// 구독자마다 버퍼 크기가 제한되어 있고, 버퍼가 가득 찬 느린 구독자는 연결을 끊는다 (재연결 시 현황부터 다시 받음)
+@Service
+public class SeatStatusStreamService {
+    private final TopologyService topologyService;
+    private final SeatService seatService;
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final ExecutorService sender;
+
+    private final Map<Long, Set<Subscriber>> subscribersByFloor = new ConcurrentHashMap<>();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public SeatStatusStreamService(TopologyService topologyService, SeatService seatService,
+                                   @Value("${reservation.seat-stream.buffer-size:64}") int bufferSize,
+                                   @Value("${reservation.seat-stream.timeout-ms:1800000}") long timeoutMillis,
+                                   @Value("${reservation.seat-stream.sender-threads:4}") int senderThreads) {
+        this.topologyService = topologyService;
+        this.seatService = seatService;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadNo = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "seat-stream-" + threadNo.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public SseEmitter subscribe(Long buildingId, int floor) {
+        Floor floorEntity = topologyService.findFloor(buildingId, floor)
+                .orElseThrow(() -> new IllegalArgumentException("Floor not found in the specified building"));
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(floorEntity.getId(), emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 현황 조회 전에 먼저 등록해 조회 중에 생긴 변경분도 버퍼에 쌓이도록 함
+        subscribersByFloor.computeIfAbsent(subscriber.floorId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        try {
+            FloorSeatStatusResponse snapshot = seatService.getSeatsByBuildingAndFloor(buildingId, floor);
+            emitter.send(SseEmitter.event().name("snapshot").data(snapshot));
+        } catch (IOException | RuntimeException e) {
+            remove(subscriber);
+            emitter.completeWithError(e);
+            return emitter;
+        }
+        subscriber.started = true;
+        schedule(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        if (event.floorId() == null) {
+            return;
+        }
+        Set<Subscriber> subscribers = subscribersByFloor.get(event.floorId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        SeatStatusDelta delta = SeatStatusDelta.of(event);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.offer(delta)) {
+                schedule(subscriber);
+            } else {
+                // 버퍼가 가득 찬 구독자는 따라오지 못하는 것으로 보고 끊음
+                dropped.incrementAndGet();
+                remove(subscriber);
+                subscriber.emitter.complete();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribersByFloor.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribersByFloor.values().forEach(subscribers -> subscribers.forEach(s -> {
+            s.closed = true;
+            s.emitter.complete();
+        }));
+        subscribersByFloor.clear();
+    }
+
+    // 구독자별로 전송 작업이 동시에 하나만 돌도록 함 (변경분 순서 보장)
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.started && !subscriber.closed && subscriber.sending.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SeatStatusDelta delta;
+            while (!subscriber.closed && (delta = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event().name("delta").data(delta));
+            }
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber);
+        } finally {
+            subscriber.sending.set(false);
+            if (!subscriber.queue.isEmpty()) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        Set<Subscriber> subscribers = subscribersByFloor.get(subscriber.floorId);
+        if (subscribers != null) {
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private static final class Subscriber {
+        final Long floorId;
+        final SseEmitter emitter;
+        final BlockingQueue<SeatStatusDelta> queue;
+        final AtomicBoolean sending = new AtomicBoolean();
+        volatile boolean started;
+        volatile boolean closed;
+
+        Subscriber(Long floorId, SseEmitter emitter, BlockingQueue<SeatStatusDelta> queue) {
+            this.floorId = floorId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Building;
+import com.example.demo.entity.Floor;
+import com.example.demo.repository.BuildingRepository;
+import com.example.demo.repository.FloorRepository;
+import com.example.demo.repository.SeatRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 빌딩 → 층 → 좌석 구성 (거의 바뀌지 않으므로 기동 시 한 번 적재하고 관리자 요청 시 다시 적재)
+// 좌석은 바뀌지 않는 속성(id, 층, 이름)만 담고, 상태는 매번 DB 에서 읽는다.
+@Service
+public class TopologyService {
+    private static final Logger log = LoggerFactory.getLogger(TopologyService.class);
+
+    private final BuildingRepository buildingRepository;
+    private final FloorRepository floorRepository;
+    private final SeatRepository seatRepository;
+
+    // 읽기는 잠금 없이 현재 스냅샷을 사용하고, 다시 적재할 때는 스냅샷을 통째로 교체
+    private volatile Topology topology = Topology.EMPTY;
+
+    public TopologyService(BuildingRepository buildingRepository, FloorRepository floorRepository, SeatRepository seatRepository) {
+        this.buildingRepository = buildingRepository;
+        this.floorRepository = floorRepository;
+        this.seatRepository = seatRepository;
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    @Transactional(readOnly = true)
+    public Stats refresh() {
+        long startedAt = System.nanoTime();
+        List<Building> buildings = buildingRepository.findAll();
+        List<Floor> floors = floorRepository.findAll();
+        List<Object[]> seatRows = seatRepository.findSeatFloorAndName();
+
+        Map<Long, List<Floor>> floorsByBuilding = new HashMap<>();
+        Map<FloorKey, Floor> floorsByNumber = new HashMap<>();
+        for (Floor floor : floors) {
+            if (floor.getBuilding() == null) {
+                continue;
+            }
+            Long buildingId = floor.getBuilding().getId();
+            floorsByBuilding.computeIfAbsent(buildingId, id -> new ArrayList<>()).add(floor);
+            floorsByNumber.put(new FloorKey(buildingId, floor.getFloor()), floor);
+        }
+        Map<Long, List<Long>> seatIdsByFloor = new HashMap<>();
+        Map<Long, SeatInfo> seatsById = new HashMap<>();
+        for (Object[] row : seatRows) {
+            Long seatId = (Long) row[0];
+            Long floorId = (Long) row[1];
+            if (floorId == null) {
+                continue;
+            }
+            seatIdsByFloor.computeIfAbsent(floorId, id -> new ArrayList<>()).add(seatId);
+            seatsById.put(seatId, new SeatInfo(seatId, floorId, (String) row[2]));
+        }
+
+        Map<Long, List<Floor>> frozenFloors = new HashMap<>();
+        floorsByBuilding.forEach((buildingId, list) -> {
+            list.sort(Comparator.comparingInt(Floor::getFloor));
+            frozenFloors.put(buildingId, List.copyOf(list));
+        });
+        Map<Long, List<Long>> frozenSeatIds = new HashMap<>();
+        seatIdsByFloor.forEach((floorId, list) -> frozenSeatIds.put(floorId, List.copyOf(list)));
+
+        topology = new Topology(
+                List.copyOf(buildings),
+                Map.copyOf(frozenFloors),
+                Map.copyOf(floorsByNumber),
+                Map.copyOf(frozenSeatIds),
+                Map.copyOf(seatsById));
+
+        Stats stats = new Stats(buildings.size(), floors.size(), seatsById.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("Topology loaded: {} buildings, {} floors, {} seats in {} ms",
+                stats.buildings(), stats.floors(), stats.seats(), stats.loadMillis());
+        return stats;
+    }
+
+    public List<Building> getBuildings() {
+        return topology.buildings();
+    }
+
+    public List<Floor> getFloorsByBuilding(Long buildingId) {
+        return topology.floorsByBuilding().getOrDefault(buildingId, List.of());
+    }
+
+    public Optional<Floor> findFloor(Long buildingId, int floor) {
+        if (buildingId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(topology.floorsByNumber().get(new FloorKey(buildingId, floor)));
+    }
+
+    public List<Long> getSeatIdsByFloor(Long floorId) {
+        return topology.seatIdsByFloor().getOrDefault(floorId, List.of());
+    }
+
+    public Optional<SeatInfo> findSeat(Long seatId) {
+        return Optional.ofNullable(topology.seatsById().get(seatId));
+    }
+
+    public Optional<Long> findFloorIdOfSeat(Long seatId) {
+        return findSeat(seatId).map(SeatInfo::floorId);
+    }
+
+    // 적재 결과 요약 (loadMillis 는 적재에 걸린 시간)
+    public record Stats(int buildings, int floors, int seats, long loadMillis) {}
+
+    // 좌석의 바뀌지 않는 속성
+    public record SeatInfo(Long id, Long floorId, String name) {}
+
+    private record FloorKey(Long buildingId, int floor) {}
+
+    private record Topology(
+            List<Building> buildings,
+            Map<Long, List<Floor>> floorsByBuilding,
+            Map<FloorKey, Floor> floorsByNumber,
+            Map<Long, List<Long>> seatIdsByFloor,
+            Map<Long, SeatInfo> seatsById) {
+
+        static final Topology EMPTY = new Topology(List.of(), Map.of(), Map.of(), Map.of(), Map.of());
+    }
+}
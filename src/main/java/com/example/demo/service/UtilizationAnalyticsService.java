@@ -0,0 +1,87 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.UtilizationResponse;
+import com.example.demo.repository.FloorDailyUtilizationRepository;
+import com.example.demo.repository.FloorHourlyUtilizationRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+// 층 이용 현황 조회 (시간별/일별 집계 테이블만 읽음, 집계가 없는 기간은 응답에서 빠짐)
+@Service
+public class UtilizationAnalyticsService {
+    private static final long MAX_HOURLY_DAYS = 31;
+    private static final long MAX_DAILY_DAYS = 366;
+
+    private final FloorHourlyUtilizationRepository hourlyRepository;
+    private final FloorDailyUtilizationRepository dailyRepository;
+    private final TopologyService topologyService;
+
+    public UtilizationAnalyticsService(FloorHourlyUtilizationRepository hourlyRepository,
+                                      FloorDailyUtilizationRepository dailyRepository, TopologyService topologyService) {
+        this.hourlyRepository = hourlyRepository;
+        this.dailyRepository = dailyRepository;
+        this.topologyService = topologyService;
+    }
+
+    // A0107: 층 시간별 이용 현황 [start, end)
+    @Timed(value = "analytics.operation", extraTags = {"operation", "hourly"}, histogram = true)
+    public List<UtilizationResponse> getHourly(Long floorId, LocalDateTime start, LocalDateTime end) {
+        int seats = seatCountOf(floorId);
+        checkRange(start, end, MAX_HOURLY_DAYS);
+        return hourlyRepository.findRange(floorId, start.truncatedTo(ChronoUnit.HOURS), end).stream()
+                .map(row -> toResponse(floorId, row.getHourStart(), row.getSessions(), row.getNoShows(),
+                        row.getOccupiedSeconds(), seats, Duration.ofHours(1)))
+                .toList();
+    }
+
+    // A0108: 층 일별 이용 현황 [start, end)
+    @Timed(value = "analytics.operation", extraTags = {"operation", "daily"}, histogram = true)
+    public List<UtilizationResponse> getDaily(Long floorId, LocalDate start, LocalDate end) {
+        int seats = seatCountOf(floorId);
+        checkRange(start == null ? null : start.atStartOfDay(), end == null ? null : end.atStartOfDay(), MAX_DAILY_DAYS);
+        return dailyRepository.findRange(floorId, start, end).stream()
+                .map(row -> toResponse(floorId, row.getUsageDate().atStartOfDay(), row.getSessions(), row.getNoShows(),
+                        row.getOccupiedSeconds(), seats, Duration.ofDays(1)))
+                .toList();
+    }
+
+    private int seatCountOf(Long floorId) {
+        List<Long> seatIds = topologyService.getSeatIdsByFloor(floorId);
+        if (seatIds.isEmpty()) {
+            throw new IllegalArgumentException("층 정보가 없습니다.");
+        }
+        return seatIds.size();
+    }
+
+    private static void checkRange(LocalDateTime start, LocalDateTime end, long maxDays) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("필수 입력값이 누락되었습니다.");
+        }
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("종료일자는 시작일자보다 이후여야 합니다.");
+        }
+        if (end.isAfter(start.plusDays(maxDays))) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + maxDays + "일입니다.");
+        }
+    }
+
+    private static UtilizationResponse toResponse(Long floorId, LocalDateTime periodStart, long sessions, long noShows,
+                                                  long occupiedSeconds, int seats, Duration period) {
+        UtilizationResponse res = new UtilizationResponse();
+        res.floorId = floorId;
+        res.periodStart = periodStart;
+        res.sessions = sessions;
+        res.noShows = noShows;
+        res.occupiedMinutes = occupiedSeconds / 60;
+        res.utilization = (double) occupiedSeconds / ((double) seats * period.getSeconds());
+        res.noShowRate = sessions + noShows == 0 ? 0.0 : (double) noShows / (sessions + noShows);
+        res.averageSessionMinutes = sessions == 0 ? 0.0 : occupiedSeconds / 60.0 / sessions;
+        return res;
+    }
+}
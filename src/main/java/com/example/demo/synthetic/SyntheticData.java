@@ -0,0 +1,30 @@
+package com.example.demo.synthetic;
+
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.event.ReservationChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 대량 적재용 합성 데이터 (id 는 미리 정해진 값으로 적재)
+public record SyntheticData(
+        List<BuildingRow> buildings,
+        List<FloorRow> floors,
+        List<SeatRow> seats,
+        List<ReservationRow> reservations) {
+
+    public record BuildingRow(Long id, String name, String address) {}
+
+    public record FloorRow(Long id, Long buildingId, int floor) {}
+
+    public record SeatRow(Long id, Long floorId, String name, SeatStatus status) {}
+
+    public record ReservationRow(Long id, Long employeeId, Long seatId, LocalDateTime start, LocalDateTime end,
+                                 ReservationStatus status, LocalDateTime checkInAt, LocalDateTime createdAt) {
+
+        public ReservationChangedEvent toEvent() {
+            return new ReservationChangedEvent(id, employeeId, seatId, start, end, null, status, null, null);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.demo.synthetic;
+
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.repository.SeatRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 로컬 성능 측정용 합성 데이터 생성 (synthetic 프로필에서 빈 DB 에 한 번 적재)
+// 빌딩 x 층 x 좌석과, 지난 N 개월 ~ 앞으로 며칠간의 예약을 만든다.
+// 좌석마다 하루 오전/오후 한 건씩만 만들어 같은 좌석의 예약끼리는 겹치지 않는다.
+// 예약 상태는 현재 시각 기준으로 정함 (지난 예약은 종료 상태, 진행 중은 RESERVED/IN_USE, 이후는 PENDING)
+@Component
+@Profile("synthetic")
+public class SyntheticDataGenerator implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    // 오전 시작 시각 분포 (8~10시 출근 시간대에 몰림)
+    private static final int[] MORNING_START_HOURS = {8, 8, 9, 9, 9, 9, 10, 10, 11};
+    private static final int[] AFTERNOON_START_HOURS = {13, 13, 14, 14, 15, 16};
+    private static final int[] DURATION_HOURS = {1, 2, 2, 3, 3, 4};
+    private static final LocalTime MORNING_LIMIT = LocalTime.of(12, 30);
+    private static final LocalTime AFTERNOON_LIMIT = LocalTime.of(19, 0);
+
+    private final SeatRepository seatRepository;
+    private final SyntheticDataLoader loader;
+    private final int buildings;
+    private final int floorsPerBuilding;
+    private final int seatsPerFloor;
+    private final int months;
+    private final int futureDays;
+    private final int employees;
+    private final double occupancy;
+    private final double brokenSeatRatio;
+    private final long seed;
+
+    public SyntheticDataGenerator(SeatRepository seatRepository, SyntheticDataLoader loader,
+                                  @Value("${synthetic.buildings:2}") int buildings,
+                                  @Value("${synthetic.floors-per-building:5}") int floorsPerBuilding,
+                                  @Value("${synthetic.seats-per-floor:100}") int seatsPerFloor,
+                                  @Value("${synthetic.months:3}") int months,
+                                  @Value("${synthetic.future-days:14}") int futureDays,
+                                  @Value("${synthetic.employees:0}") int employees,
+                                  @Value("${synthetic.occupancy:0.7}") double occupancy,
+                                  @Value("${synthetic.broken-seat-ratio:0.01}") double brokenSeatRatio,
+                                  @Value("${synthetic.seed:42}") long seed) {
+        this.seatRepository = seatRepository;
+        this.loader = loader;
+        this.buildings = buildings;
+        this.floorsPerBuilding = floorsPerBuilding;
+        this.seatsPerFloor = seatsPerFloor;
+        this.months = months;
+        this.futureDays = futureDays;
+        // 지정하지 않으면 좌석 수의 1.2배 (좌석보다 임직원이 조금 많음)
+        this.employees = employees > 0 ? employees : Math.max(1, buildings * floorsPerBuilding * seatsPerFloor * 6 / 5);
+        this.occupancy = occupancy;
+        this.brokenSeatRatio = brokenSeatRatio;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (seatRepository.count() > 0) {
+            log.warn("Synthetic data skipped: database already has seats");
+            return;
+        }
+        long startedAt = System.nanoTime();
+        SyntheticData data = generate(LocalDateTime.now());
+        loader.load(data);
+        log.info("Synthetic data loaded: {} buildings, {} floors, {} seats, {} reservations, {} employees in {} ms",
+                data.buildings().size(), data.floors().size(), data.seats().size(), data.reservations().size(),
+                employees, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public SyntheticData generate(LocalDateTime now) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<SyntheticData.BuildingRow> buildingRows = new ArrayList<>();
+        List<SyntheticData.FloorRow> floorRows = new ArrayList<>();
+        List<SyntheticData.SeatRow> seatRows = new ArrayList<>();
+        long floorId = 0;
+        long seatId = 0;
+        for (long b = 1; b <= buildings; b++) {
+            buildingRows.add(new SyntheticData.BuildingRow(b, "Building " + b, "Address " + b));
+            for (int f = 1; f <= floorsPerBuilding; f++) {
+                floorRows.add(new SyntheticData.FloorRow(++floorId, b, f));
+                for (int s = 1; s <= seatsPerFloor; s++) {
+                    SeatStatus status = random.nextDouble() < brokenSeatRatio ? SeatStatus.BROKEN : SeatStatus.AVAILABLE;
+                    seatRows.add(new SyntheticData.SeatRow(++seatId, floorId, b + "-" + f + "-" + s, status));
+                }
+            }
+        }
+
+        List<SyntheticData.ReservationRow> reservations = new ArrayList<>();
+        LocalDate today = now.toLocalDate();
+        LocalDate first = today.minusMonths(months);
+        LocalDate last = today.plusDays(futureDays);
+        long reservationId = 0;
+        for (int i = 0; i < seatRows.size(); i++) {
+            SyntheticData.SeatRow seat = seatRows.get(i);
+            boolean broken = seat.status() == SeatStatus.BROKEN;
+            for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+                // 고장 좌석은 오늘 이후 예약 없음
+                if (broken && !day.isBefore(today)) {
+                    break;
+                }
+                double dayOccupancy = isWeekend(day) ? occupancy / 7 : occupancy;
+                if (random.nextDouble() < dayOccupancy) {
+                    reservations.add(reservation(++reservationId, seat.id(), day, MORNING_START_HOURS, MORNING_LIMIT, now, random));
+                }
+                if (random.nextDouble() < dayOccupancy * 0.6) {
+                    reservations.add(reservation(++reservationId, seat.id(), day, AFTERNOON_START_HOURS, AFTERNOON_LIMIT, now, random));
+                }
+            }
+        }
+
+        // 사용 중인 예약이 있는 좌석은 UNAVAILABLE
+        for (SyntheticData.ReservationRow r : reservations) {
+            if (r.status() == ReservationStatus.IN_USE) {
+                int index = (int) (r.seatId() - 1);
+                SyntheticData.SeatRow seat = seatRows.get(index);
+                seatRows.set(index, new SyntheticData.SeatRow(seat.id(), seat.floorId(), seat.name(), SeatStatus.UNAVAILABLE));
+            }
+        }
+        return new SyntheticData(buildingRows, floorRows, seatRows, reservations);
+    }
+
+    private SyntheticData.ReservationRow reservation(long id, long seatId, LocalDate day, int[] startHours, LocalTime limit,
+                                                     LocalDateTime now, SplittableRandom random) {
+        LocalDateTime start = day.atTime(startHours[random.nextInt(startHours.length)], random.nextBoolean() ? 0 : 30);
+        LocalDateTime end = start.plusHours(DURATION_HOURS[random.nextInt(DURATION_HOURS.length)]);
+        if (end.toLocalTime().isAfter(limit)) {
+            end = day.atTime(limit);
+        }
+        long employeeId = random.nextInt(employees) + 1;
+        LocalDateTime createdAt = start.minusHours(1 + random.nextInt(7 * 24));
+        LocalDateTime checkIn = start.plusMinutes(random.nextInt(10));
+        int p = random.nextInt(100);
+
+        ReservationStatus status;
+        LocalDateTime checkInAt = null;
+        if (end.isBefore(now)) {
+            // 지난 예약: 완료 75%, 노쇼 12%, 취소 10%, 강제 취소 3%
+            if (p < 75) {
+                status = ReservationStatus.COMPLETED;
+                checkInAt = checkIn;
+            } else if (p < 87) {
+                status = ReservationStatus.NO_SHOW;
+            } else if (p < 97) {
+                status = ReservationStatus.CANCELLED;
+            } else {
+                status = ReservationStatus.FORCED_CANCEL;
+                checkInAt = checkIn;
+            }
+        } else if (!start.isAfter(now)) {
+            // 진행 중: 체크인 유예 시간 안이면 일부는 아직 RESERVED, 지났으면 대부분 IN_USE
+            boolean inGrace = now.isBefore(start.plusMinutes(10));
+            if (inGrace && p < 60) {
+                status = ReservationStatus.RESERVED;
+            } else if (inGrace || p < 85) {
+                status = ReservationStatus.IN_USE;
+                checkInAt = checkIn.isAfter(now) ? now : checkIn;
+            } else {
+                status = ReservationStatus.NO_SHOW;
+            }
+        } else {
+            // 이후 예약: 대기 92%, 취소 8%
+            status = p < 92 ? ReservationStatus.PENDING : ReservationStatus.CANCELLED;
+        }
+        return new SyntheticData.ReservationRow(id, employeeId, seatId, start, end, status, checkInAt,
+                createdAt.isAfter(now) ? now : createdAt);
+    }
+
+    private static boolean isWeekend(LocalDate day) {
+        return day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+    }
+}
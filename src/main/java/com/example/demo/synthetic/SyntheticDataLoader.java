@@ -0,0 +1,103 @@
+package com.example.demo.synthetic;
+
+import com.example.demo.batch.ReservationTransitionScheduler;
+import com.example.demo.index.FloorOccupancyReadModel;
+import com.example.demo.index.ReservationIndexUpdater;
+import com.example.demo.index.SeatDayOccupancyIndex;
+import com.example.demo.metrics.ReservationStatusGauges;
+import com.example.demo.service.FloorSeatMapCache;
+import com.example.demo.service.TopologyService;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+// 합성 데이터를 JDBC 배치 insert 로 적재하고, 기동 시 DB 로부터 만든 메모리 구조와 점유 마스크를 다시 구성
+// 엔티티를 거치지 않으므로 id 생성기(IDENTITY, reservation_seq)는 적재한 id 뒤로 직접 옮긴다.
+@Component
+public class SyntheticDataLoader {
+    private static final int BATCH_SIZE = 1_000;
+    // pooled 최적화기는 시퀀스 값을 할당 구간의 끝으로 쓰므로 할당 크기(50) 이상 여유를 둠
+    private static final int SEQUENCE_MARGIN = 100;
+
+    private final JdbcTemplate jdbc;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TopologyService topologyService;
+    private final ReservationIndexUpdater indexUpdater;
+    private final ReservationTransitionScheduler transitionScheduler;
+    private final FloorSeatMapCache seatMapCache;
+    private final ReservationStatusGauges statusGauges;
+    private final SeatDayOccupancyIndex occupancyIndex;
+    private final FloorOccupancyReadModel floorOccupancy;
+
+    public SyntheticDataLoader(JdbcTemplate jdbc, EntityManagerFactory entityManagerFactory, TopologyService topologyService,
+                               ReservationIndexUpdater indexUpdater, ReservationTransitionScheduler transitionScheduler,
+                               FloorSeatMapCache seatMapCache, ReservationStatusGauges statusGauges,
+                               SeatDayOccupancyIndex occupancyIndex, FloorOccupancyReadModel floorOccupancy) {
+        this.jdbc = jdbc;
+        this.entityManagerFactory = entityManagerFactory;
+        this.topologyService = topologyService;
+        this.indexUpdater = indexUpdater;
+        this.transitionScheduler = transitionScheduler;
+        this.seatMapCache = seatMapCache;
+        this.statusGauges = statusGauges;
+        this.occupancyIndex = occupancyIndex;
+        this.floorOccupancy = floorOccupancy;
+    }
+
+    public void load(SyntheticData data) {
+        insert("insert into building (id, name, address) values (?, ?, ?)", data.buildings(),
+                b -> new Object[]{b.id(), b.name(), b.address()});
+        insert("insert into floor (id, building_id, floor) values (?, ?, ?)", data.floors(),
+                f -> new Object[]{f.id(), f.buildingId(), f.floor()});
+        // 좌석 버전은 0 부터 시작 (예약 시 낙관적 락 증가 기준)
+        insert("insert into seat (id, floor_id, name, status, version) values (?, ?, ?, ?, 0)", data.seats(),
+                s -> new Object[]{s.id(), s.floorId(), s.name(), s.status().name()});
+        insert("insert into reservation (id, employee_id, seat_id, start_time, end_time, status, check_in_at, created_at) "
+                        + "values (?, ?, ?, ?, ?, ?, ?, ?)", data.reservations(),
+                r -> new Object[]{r.id(), r.employeeId(), r.seatId(), Timestamp.valueOf(r.start()), Timestamp.valueOf(r.end()),
+                        r.status().name(), timestamp(r.checkInAt()), timestamp(r.createdAt())});
+
+        jdbc.execute("alter table building alter column id restart with " + nextId("building"));
+        jdbc.execute("alter table floor alter column id restart with " + nextId("floor"));
+        jdbc.execute("alter table seat alter column id restart with " + nextId("seat"));
+        jdbc.execute("alter sequence reservation_seq restart with " + (nextId("reservation") + SEQUENCE_MARGIN));
+
+        entityManagerFactory.getCache().evictAll();
+        topologyService.refresh();
+        indexUpdater.rebuild();
+        transitionScheduler.rebuild();
+        seatMapCache.clear();
+        statusGauges.resync();
+        occupancyIndex.rebuild();
+        floorOccupancy.rebuild();
+    }
+
+    private <T> void insert(String sql, List<T> rows, Function<T, Object[]> mapper) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (T row : rows) {
+            batch.add(mapper.apply(row));
+            if (batch.size() == BATCH_SIZE) {
+                jdbc.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbc.batchUpdate(sql, batch);
+        }
+    }
+
+    private long nextId(String table) {
+        Long max = jdbc.queryForObject("select max(id) from " + table, Long.class);
+        return (max == null ? 0 : max) + 1;
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return time == null ? null : Timestamp.valueOf(time);
+    }
+}
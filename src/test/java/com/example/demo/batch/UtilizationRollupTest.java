@@ -0,0 +1,82 @@
+package com.example.demo.batch;
+
+import com.example.demo.entity.Reservation;
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.event.ReservationChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 실시간 반영(상태 변경 이벤트)과 재집계(이력 조회 행)가 같은 예약을 같은 증분으로 접는지 확인
+public class UtilizationRollupTest {
+
+    private static final Long FLOOR_ID = 1L;
+    private static final Long SEAT_ID = 10L;
+    private static final LocalDateTime NINE = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Test
+    void liveAndBackfillFolding_ShouldProduceIdenticalRollups() {
+        List<Reservation> reservations = List.of(
+                // 반납으로 일찍 끝남
+                reservation(1L, NINE, NINE.plusHours(3), ReservationStatus.COMPLETED, null, NINE.plusMinutes(80)),
+                // 자동 종료 (사용 종료 시각 = 종료 시각)
+                reservation(2L, NINE.plusHours(3), NINE.plusHours(4), ReservationStatus.COMPLETED, null, NINE.plusHours(4)),
+                // 연장 예약을 반납
+                reservation(3L, NINE.plusHours(3), NINE.plusHours(5), ReservationStatus.COMPLETED, 2L, NINE.plusHours(4).plusMinutes(45)),
+                // 자정을 넘겨 사용
+                reservation(4L, NINE.plusHours(14), NINE.plusHours(16), ReservationStatus.COMPLETED, null, NINE.plusHours(16)),
+                // 사용 종료 시각 기록 전에 끝난 예약
+                reservation(5L, NINE.plusHours(6), NINE.plusHours(7), ReservationStatus.COMPLETED, null, null),
+                reservation(6L, NINE.plusHours(1), NINE.plusHours(2), ReservationStatus.NO_SHOW, null, null));
+
+        UtilizationRollup live = new UtilizationRollup();
+        UtilizationRollup backfill = new UtilizationRollup();
+        for (Reservation r : reservations) {
+            ReservationStatus oldStatus = r.getStatus() == ReservationStatus.NO_SHOW ? ReservationStatus.RESERVED : ReservationStatus.IN_USE;
+            UtilizationRollupUpdater.fold(live, FLOOR_ID, ReservationChangedEvent.of(r, oldStatus));
+            UtilizationBackfill.fold(backfill, FLOOR_ID, row(r));
+        }
+
+        assertEquals(values(backfill.hourly()), values(live.hourly()));
+        assertEquals(values(backfill.daily()), values(live.daily()));
+        // 일찍 반납한 예약은 반납 시각까지만 사용으로 셈 (10시대 20분, 같은 시간에 시작한 노쇼 1건)
+        assertEquals(List.of(0L, 1L, 1200L),
+                values(live.hourly()).get(new UtilizationRollup.HourKey(FLOOR_ID, NINE.plusHours(1))));
+        // 자동 종료와 반납된 연장 예약 (12시대 60분, 13시대 45분)
+        assertEquals(List.of(1L, 0L, 3600L),
+                values(live.hourly()).get(new UtilizationRollup.HourKey(FLOOR_ID, NINE.plusHours(3))));
+        assertEquals(List.of(0L, 0L, 2700L),
+                values(live.hourly()).get(new UtilizationRollup.HourKey(FLOOR_ID, NINE.plusHours(4))));
+    }
+
+    private static Reservation reservation(Long id, LocalDateTime start, LocalDateTime end, ReservationStatus status,
+                                           Long extendedFromReservationId, LocalDateTime completedAt) {
+        Reservation r = new Reservation();
+        r.setId(id);
+        r.setEmployeeId(100L);
+        r.setSeatId(SEAT_ID);
+        r.setStartTime(start);
+        r.setEndTime(end);
+        r.setStatus(status);
+        r.setExtendedFromReservationId(extendedFromReservationId);
+        r.setCompletedAt(completedAt);
+        return r;
+    }
+
+    // findFinalizedStartingBetween 이 돌려주는 행과 같은 모양
+    private static Object[] row(Reservation r) {
+        return new Object[]{r.getSeatId(), r.getStartTime(), r.getEndTime(), r.getStatus(),
+                r.getExtendedFromReservationId(), r.getCompletedAt()};
+    }
+
+    private static <K> Map<K, List<Long>> values(Map<K, long[]> deltas) {
+        return deltas.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> Arrays.stream(e.getValue()).boxed().toList()));
+    }
+}
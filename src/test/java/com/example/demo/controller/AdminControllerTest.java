@@ -1,25 +1,40 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.FloorSeatStatusResponse;
+import com.example.demo.dto.SeatStatusView;
 import com.example.demo.entity.Seat;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.service.FloorSeatMapCache;
+import com.example.demo.service.ReservationExportService;
 import com.example.demo.service.SeatService;
+import com.example.demo.service.TopologyService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class AdminControllerTest {
@@ -27,6 +42,9 @@ public class AdminControllerTest {
     @Mock
     private SeatService seatService;
 
+    @Mock
+    private ReservationExportService exportService;
+
     @InjectMocks
     private AdminController adminController;
 
@@ -51,20 +69,113 @@ public class AdminControllerTest {
     }
 
     @Test
-    void getDetailedSeatStatus_ShouldReturnListOfSeats() throws Exception {
-        List<Seat> seats = Arrays.asList(
-            new Seat(),
-            new Seat()
+    void getDetailedSeatStatus_ShouldReturnFloorHeaderAndSeats() throws Exception {
+        FloorSeatStatusResponse res = new FloorSeatStatusResponse();
+        res.buildingId = 1L;
+        res.floorId = 10L;
+        res.floor = 1;
+        res.seats = Arrays.asList(
+            new SeatStatusView(1L, "A-1", SeatStatus.AVAILABLE, null),
+            new SeatStatusView(2L, "A-2", SeatStatus.UNAVAILABLE, LocalDateTime.of(2030, 1, 1, 18, 0))
         );
 
-        when(seatService.getSeatsByBuildingAndFloor(1L, 1)).thenReturn(seats);
+        when(seatService.getSeatsByBuildingAndFloor(1L, 1)).thenReturn(res);
 
         mockMvc.perform(get("/api/admin/seat-status")
                 .param("buildingId", "1")
                 .param("floor", "1")
                 .characterEncoding(StandardCharsets.UTF_8))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(jsonPath("$.floorId").value(10))
+                .andExpect(jsonPath("$.seats.length()").value(2))
+                .andExpect(jsonPath("$.seats[0].seatId").value(1))
+                .andExpect(jsonPath("$.seats[1].status").value("UNAVAILABLE"))
+                .andExpect(jsonPath("$.seats[0].floor").doesNotExist());
+    }
+
+    @Test
+    void changeSeatStatus_ShouldReturnUpdatedSeat() throws Exception {
+        Seat seat = new Seat();
+        seat.setStatus(SeatStatus.BROKEN);
+
+        when(seatService.changeSeatStatus(1L, SeatStatus.BROKEN)).thenReturn(seat);
+
+        mockMvc.perform(post("/api/admin/seats/1/status")
+                .param("status", "BROKEN")
+                .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("BROKEN"));
+    }
+
+    @Test
+    void getSeatMapCacheStats_ShouldReturnStats() throws Exception {
+        when(seatService.getSeatMapCacheStats()).thenReturn(new FloorSeatMapCache.Stats(2, 10, 3, 0, 1));
+
+        mockMvc.perform(get("/api/admin/seat-map-cache/stats")
+                .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.hits").value(10))
+                .andExpect(jsonPath("$.invalidations").value(1));
+    }
+
+    @Test
+    void refreshTopology_ShouldReturnLoadStats() throws Exception {
+        when(seatService.refreshTopology()).thenReturn(new TopologyService.Stats(2, 5, 120, 8));
+
+        mockMvc.perform(post("/api/admin/topology/refresh")
+                .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buildings").value(2))
+                .andExpect(jsonPath("$.floors").value(5))
+                .andExpect(jsonPath("$.seats").value(120));
+    }
+
+    @Test
+    void exportReservations_ShouldStreamNdjson() throws Exception {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2030, 3, 31, 0, 0);
+        ReservationExportService.ExportRequest export = new ReservationExportService.ExportRequest(
+                7L, null, null, start, end, ReservationExportService.Format.NDJSON);
+        when(exportService.prepare(eq(7L), isNull(), isNull(), eq(start), eq(end), eq("ndjson"))).thenReturn(export);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).when(exportService).write(eq(export), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/admin/reservations/export")
+                .param("employeeId", "7")
+                .param("start", "2030-01-01T00:00:00")
+                .param("end", "2030-03-31T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"reservations.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void exportReservations_WithoutScope_ShouldReturnBadRequest() throws Exception {
+        when(exportService.prepare(isNull(), isNull(), isNull(), any(), any(), eq("csv")))
+                .thenThrow(new IllegalArgumentException("employeeId, floorId, buildingId 중 하나만 지정해야 합니다."));
+
+        mockMvc.perform(get("/api/admin/reservations/export")
+                .param("start", "2030-01-01T00:00:00")
+                .param("end", "2030-03-31T00:00:00")
+                .param("format", "csv"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportReservations_WithMalformedTime_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/reservations/export")
+                .param("employeeId", "7")
+                .param("start", "2030-01-01")
+                .param("end", "2030-03-31T00:00:00"))
+                .andExpect(status().isBadRequest());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.example.demo.controller;
+
+import com.example.demo.batch.UtilizationBackfill;
+import com.example.demo.dto.UtilizationResponse;
+import com.example.demo.service.UtilizationAnalyticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class AnalyticsControllerTest {
+
+    @Mock
+    private UtilizationAnalyticsService analyticsService;
+
+    @Mock
+    private UtilizationBackfill backfill;
+
+    @InjectMocks
+    private AnalyticsController analyticsController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(analyticsController)
+                .defaultResponseCharacterEncoding(StandardCharsets.UTF_8)
+                .build();
+    }
+
+    @Test
+    void getHourly_ShouldReturnRollupRows() throws Exception {
+        UtilizationResponse row = new UtilizationResponse();
+        row.floorId = 1L;
+        row.periodStart = LocalDateTime.of(2024, 1, 1, 9, 0);
+        row.sessions = 3;
+        row.occupiedMinutes = 150;
+        when(analyticsService.getHourly(1L, LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 1, 18, 0)))
+                .thenReturn(List.of(row));
+
+        mockMvc.perform(get("/api/admin/analytics/floors/1/hourly")
+                        .param("start", "2024-01-01T09:00:00")
+                        .param("end", "2024-01-01T18:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].floorId").value(1))
+                .andExpect(jsonPath("$[0].sessions").value(3))
+                .andExpect(jsonPath("$[0].occupiedMinutes").value(150));
+    }
+
+    @Test
+    void getDaily_UnknownFloor_ShouldReturnBadRequest() throws Exception {
+        when(analyticsService.getDaily(99L, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1)))
+                .thenThrow(new IllegalArgumentException("층 정보가 없습니다."));
+
+        mockMvc.perform(get("/api/admin/analytics/floors/99/daily")
+                        .param("start", "2024-01-01")
+                        .param("end", "2024-02-01"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getHourly_WithMalformedTime_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/analytics/floors/1/hourly")
+                        .param("start", "2024-01-01T25:00:00")
+                        .param("end", "2024-01-01T18:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void backfill_ShouldReturnSummary() throws Exception {
+        when(backfill.backfill(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 8)))
+                .thenReturn(new UtilizationBackfill.Result(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 8), 8, 1200, 35));
+
+        mockMvc.perform(post("/api/admin/analytics/backfill")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-08"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days").value(8))
+                .andExpect(jsonPath("$.reservations").value(1200));
+    }
+}
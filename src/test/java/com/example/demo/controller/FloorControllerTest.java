@@ -1,5 +1,7 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.BuildingOccupancyResponse;
+import com.example.demo.dto.FloorOccupancyResponse;
 import com.example.demo.entity.Floor;
 import com.example.demo.service.FloorService;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,4 +50,39 @@ public class FloorControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2));
     }
+
+    @Test
+    void getBuildingOccupancy_ShouldReturnFloorCounters() throws Exception {
+        FloorOccupancyResponse floor = new FloorOccupancyResponse();
+        floor.setFloorId(10L);
+        floor.setFloor(1);
+        floor.setTotal(20);
+        floor.setFree(12);
+        floor.setReserved(3);
+        floor.setInUse(4);
+        floor.setBroken(1);
+        BuildingOccupancyResponse building = new BuildingOccupancyResponse();
+        building.setBuildingId(1L);
+        building.setTotal(20);
+        building.setFree(12);
+        building.setFloors(List.of(floor));
+
+        when(floorService.getBuildingOccupancy(1L)).thenReturn(building);
+
+        mockMvc.perform(get("/api/floors/building/1/occupancy"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.buildingId").value(1))
+                .andExpect(jsonPath("$.free").value(12))
+                .andExpect(jsonPath("$.floors.length()").value(1))
+                .andExpect(jsonPath("$.floors[0].inUse").value(4))
+                .andExpect(jsonPath("$.floors[0].broken").value(1));
+    }
+
+    @Test
+    void getBuildingOccupancy_UnknownBuilding_ShouldReturnBadRequest() throws Exception {
+        when(floorService.getBuildingOccupancy(99L)).thenThrow(new IllegalArgumentException("빌딩 정보가 없습니다."));
+
+        mockMvc.perform(get("/api/floors/building/99/occupancy"))
+                .andExpect(status().isBadRequest());
+    }
 } 
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.BatchReservationResult;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.ReservationRequest;
 import com.example.demo.dto.ReservationResponse;
+import com.example.demo.service.IdempotencyStore;
 import com.example.demo.service.ReservationService;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,6 +23,10 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -29,6 +36,9 @@ public class ReservationControllerTest {
     @Mock
     private ReservationService reservationService;
 
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
     @InjectMocks
     private ReservationController reservationController;
 
@@ -71,6 +81,38 @@ public class ReservationControllerTest {
                 .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
+    @Test
+    void createReservations_ShouldReturnPerItemResults() throws Exception {
+        ReservationRequest request = new ReservationRequest();
+        request.setEmployeeId(1L);
+        request.setSeatId(1L);
+        request.setStartTime(LocalDateTime.now());
+        request.setEndTime(LocalDateTime.now().plusHours(1));
+
+        ReservationResponse response = new ReservationResponse();
+        response.setId(1L);
+        response.setEmployeeId(1L);
+        response.setSeatId(1L);
+        response.setStatus("PENDING");
+
+        List<BatchReservationResult> results = Arrays.asList(
+            BatchReservationResult.accepted(0, response),
+            BatchReservationResult.rejected(1, "해당 좌석은 이미 예약되어 있습니다.")
+        );
+
+        when(reservationService.createReservations(anyList())).thenReturn(results);
+
+        mockMvc.perform(post("/api/reservations/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(request, request))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].accepted").value(true))
+                .andExpect(jsonPath("$[0].reservation.id").value(1))
+                .andExpect(jsonPath("$[1].accepted").value(false))
+                .andExpect(jsonPath("$[1].index").value(1));
+    }
+
     @Test
     void cancelReservation_ShouldReturnNoContent() throws Exception {
         mockMvc.perform(post("/api/reservations/1/cancel")
@@ -108,6 +150,40 @@ public class ReservationControllerTest {
                 .andExpect(jsonPath("$.length()").value(2));
     }
 
+    @Test
+    void getAvailableSeatsPage_ShouldReturnItemsAndNextCursor() throws Exception {
+        CursorPage<Long> page = CursorPage.of(Arrays.asList(1L, 2L), "Mg");
+
+        when(reservationService.getAvailableSeatsPage(any(LocalDateTime.class), any(LocalDateTime.class), anyList(), any(), any())).thenReturn(page);
+
+        mockMvc.perform(get("/api/reservations/available-seats/page")
+                .param("start", LocalDateTime.now().toString())
+                .param("end", LocalDateTime.now().plusHours(1).toString())
+                .param("seatIds", "1,2,3")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").value("Mg"));
+    }
+
+    @Test
+    void searchFreeSeats_ShouldReturnItemsAndNextCursor() throws Exception {
+        CursorPage<Long> page = CursorPage.of(Arrays.asList(101L, 102L, 105L), "MTA1");
+
+        when(reservationService.searchFreeSeats(eq(1L), eq(3), any(LocalDateTime.class), any(LocalDateTime.class), isNull(), eq(3))).thenReturn(page);
+
+        mockMvc.perform(get("/api/reservations/free-seats")
+                .param("buildingId", "1")
+                .param("floor", "3")
+                .param("start", LocalDateTime.now().plusHours(1).toString())
+                .param("end", LocalDateTime.now().plusHours(2).toString())
+                .param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[2]").value(105))
+                .andExpect(jsonPath("$.nextCursor").value("MTA1"));
+    }
+
     @Test
     void extendReservation_ShouldReturnReservationResponse() throws Exception {
         ReservationResponse response = new ReservationResponse();
@@ -148,6 +224,22 @@ public class ReservationControllerTest {
                 .andExpect(jsonPath("$.length()").value(2));
     }
 
+    @Test
+    void getReservationHistoryPage_ShouldReturnItemsAndNextCursor() throws Exception {
+        CursorPage<ReservationResponse> page = CursorPage.of(
+            Arrays.asList(new ReservationResponse(), new ReservationResponse()), null);
+
+        when(reservationService.getReservationHistoryPage(any(Long.class), any(LocalDateTime.class), any(LocalDateTime.class), any(), any())).thenReturn(page);
+
+        mockMvc.perform(get("/api/reservations/history/page")
+                .param("employeeId", "1")
+                .param("start", LocalDateTime.now().toString())
+                .param("end", LocalDateTime.now().plusHours(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
     @Test
     void checkIn_ShouldReturnReservationResponse() throws Exception {
         ReservationResponse response = new ReservationResponse();
@@ -169,6 +261,26 @@ public class ReservationControllerTest {
                 .andExpect(jsonPath("$.status").value("IN_USE"));
     }
 
+    @Test
+    void checkIn_WithIdempotencyKey_ShouldReturnStoredResponse() throws Exception {
+        ReservationResponse response = new ReservationResponse();
+        response.setId(1L);
+        response.setEmployeeId(1L);
+        response.setStatus("IN_USE");
+
+        when(idempotencyStore.execute(eq("checkin"), eq("retry-1"), eq("1|1"), eq(ReservationResponse.class), any()))
+                .thenReturn(response);
+
+        mockMvc.perform(post("/api/reservations/1/checkin")
+                .param("employeeId", "1")
+                .header("Idempotency-Key", "retry-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.status").value("IN_USE"));
+
+        verify(reservationService, never()).checkIn(any(Long.class), any(Long.class));
+    }
+
     @Test
     void returnSeat_ShouldReturnReservationResponse() throws Exception {
         ReservationResponse response = new ReservationResponse();
@@ -1,10 +1,12 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.FloorSeatStatusResponse;
+import com.example.demo.dto.SeatStatusView;
 import com.example.demo.entity.Building;
-import com.example.demo.entity.Floor;
-import com.example.demo.entity.Seat;
+import com.example.demo.entity.SeatStatus;
 import com.example.demo.service.BuildingService;
 import com.example.demo.service.SeatService;
+import com.example.demo.service.SeatStatusStreamService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -12,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Arrays;
 import java.util.List;
@@ -23,6 +26,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 
 public class SeatControllerTest {
 
@@ -32,6 +36,9 @@ public class SeatControllerTest {
     @Mock
     private BuildingService buildingService;
 
+    @Mock
+    private SeatStatusStreamService seatStatusStreamService;
+
     @InjectMocks
     private SeatController seatController;
 
@@ -46,21 +53,26 @@ public class SeatControllerTest {
     @Test
     void getSeatsByBuildingAndFloor_ShouldReturnListOfSeats() throws Exception {
         // Given
-        Floor floor = new Floor();
-        floor.setId(1L);
-        
-        List<Seat> seats = Arrays.asList(
-            new Seat(),
-            new Seat()
+        FloorSeatStatusResponse res = new FloorSeatStatusResponse();
+        res.buildingId = 1L;
+        res.buildingName = "본관";
+        res.floorId = 1L;
+        res.floor = 1;
+        res.seats = Arrays.asList(
+            new SeatStatusView(1L, "A-1", SeatStatus.AVAILABLE, null),
+            new SeatStatusView(2L, "A-2", SeatStatus.BROKEN, null)
         );
 
-        when(seatService.getSeatsByBuildingAndFloor(anyLong(), anyInt())).thenReturn(seats);
+        when(seatService.getSeatsByBuildingAndFloor(anyLong(), anyInt())).thenReturn(res);
 
         // When & Then
         mockMvc.perform(get("/api/seats/building/1/floor/1/seats"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(jsonPath("$.buildingId").value(1))
+                .andExpect(jsonPath("$.floor").value(1))
+                .andExpect(jsonPath("$.seats").isArray())
+                .andExpect(jsonPath("$.seats.length()").value(2))
+                .andExpect(jsonPath("$.seats[1].status").value("BROKEN"));
     }
 
     @Test
@@ -92,4 +104,25 @@ public class SeatControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void streamSeatStatus_ShouldStartAsyncStream() throws Exception {
+        // Given
+        when(seatStatusStreamService.subscribe(1L, 1)).thenReturn(new SseEmitter());
+
+        // When & Then
+        mockMvc.perform(get("/api/seats/building/1/floor/1/stream"))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void streamSeatStatus_WhenFloorNotFound_ShouldReturnBadRequest() throws Exception {
+        // Given
+        when(seatStatusStreamService.subscribe(anyLong(), anyInt()))
+                .thenThrow(new IllegalArgumentException("Floor not found in the specified building"));
+
+        // When & Then
+        mockMvc.perform(get("/api/seats/building/1/floor/9/stream"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ReservationResponse;
+import com.example.demo.entity.Building;
+import com.example.demo.repository.BuildingRepository;
+import com.example.demo.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 작업은 좌석 명령으로 빌딩 행 하나를 저장하고 그 id 를 돌려줌 (저장된 행 수로 작업이 몇 번 커밋되었는지 확인)
+@SpringBootTest
+public class IdempotencyStoreTest {
+
+    private static final String OPERATION = "store-test";
+    private static final Long SEAT_ID = 1L;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private SeatCommandPipeline commandPipeline;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private IdempotencyRecordRepository recordRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<String> names = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        buildingRepository.deleteAll(buildingRepository.findAll().stream()
+                .filter(b -> names.contains(b.getName()))
+                .toList());
+        recordRepository.deleteAll(recordRepository.findAll().stream()
+                .filter(r -> r.getId().startsWith(OPERATION + ":"))
+                .toList());
+        names.clear();
+    }
+
+    @Test
+    void execute_FirstRequest_ShouldStoreResponseWithTheWrite() {
+        String key = UUID.randomUUID().toString();
+        String name = name();
+
+        ReservationResponse response = idempotencyStore.execute(OPERATION, key, "fp", ReservationResponse.class, write(name));
+
+        assertEquals(1, committedWrites(name));
+        assertTrue(recordRepository.findById(OPERATION + ":" + key)
+                .map(r -> r.getResponseBody().contains(String.valueOf(response.id)))
+                .orElse(false));
+    }
+
+    @Test
+    void execute_Retry_ShouldReplayStoredResponse() {
+        String key = UUID.randomUUID().toString();
+        String name = name();
+        ReservationResponse first = idempotencyStore.execute(OPERATION, key, "fp", ReservationResponse.class, write(name));
+
+        ReservationResponse retried = idempotencyStore.execute(OPERATION, key, "fp", ReservationResponse.class, write(name));
+        // 재기동 등으로 메모리 항목이 없는 인스턴스도 저장된 행으로 같은 응답을 돌려줌
+        ReservationResponse restarted = newStore(86_400_000L).execute(OPERATION, key, "fp", ReservationResponse.class, write(name));
+
+        assertEquals(first.id, retried.id);
+        assertEquals(first.id, restarted.id);
+        assertEquals(1, committedWrites(name));
+    }
+
+    @Test
+    void execute_SameKeyWithDifferentRequest_ShouldReject() {
+        String key = UUID.randomUUID().toString();
+        String name = name();
+        idempotencyStore.execute(OPERATION, key, "fp-1", ReservationResponse.class, write(name));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyStore.execute(OPERATION, key, "fp-2", ReservationResponse.class, write(name)));
+        assertThrows(IllegalArgumentException.class,
+                () -> newStore(86_400_000L).execute(OPERATION, key, "fp-2", ReservationResponse.class, write(name)));
+        assertEquals(1, committedWrites(name));
+    }
+
+    @Test
+    void execute_AfterTtl_ShouldRunAgain() throws Exception {
+        IdempotencyStore shortLived = newStore(200L);
+        String key = UUID.randomUUID().toString();
+        String name = name();
+        ReservationResponse first = shortLived.execute(OPERATION, key, "fp", ReservationResponse.class, write(name));
+
+        Thread.sleep(300);
+        ReservationResponse second = shortLived.execute(OPERATION, key, "fp", ReservationResponse.class, write(name));
+
+        assertNotEquals(first.id, second.id);
+        assertEquals(2, committedWrites(name));
+    }
+
+    @Test
+    void execute_FailedAction_ShouldNotStoreResponse() {
+        String key = UUID.randomUUID().toString();
+        String name = name();
+
+        assertThrows(IllegalArgumentException.class, () -> idempotencyStore.execute(OPERATION, key, "fp", ReservationResponse.class,
+                () -> commandPipeline.execute(SEAT_ID, group -> {
+                    throw new IllegalArgumentException("거절");
+                })));
+        ReservationResponse retried = idempotencyStore.execute(OPERATION, key, "fp", ReservationResponse.class, write(name));
+
+        assertEquals(1, committedWrites(name));
+        assertTrue(recordRepository.findById(OPERATION + ":" + key).isPresent());
+        assertNotNull(retried.id);
+    }
+
+    @Test
+    void execute_ConcurrentSameKeyAcrossInstances_ShouldCommitOnce() throws Exception {
+        // 같은 DB 를 쓰는 두 인스턴스에 같은 키 요청을 동시에 보냄
+        List<IdempotencyStore> instances = List.of(newStore(86_400_000L), newStore(86_400_000L));
+        String key = UUID.randomUUID().toString();
+        String name = name();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<ReservationResponse>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            IdempotencyStore store = instances.get(i % instances.size());
+            Callable<ReservationResponse> call = () -> {
+                startSignal.await();
+                return store.execute(OPERATION, key, "fp", ReservationResponse.class, write(name));
+            };
+            results.add(pool.submit(call));
+        }
+        startSignal.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+
+        Long committedId = null;
+        for (Future<ReservationResponse> result : results) {
+            try {
+                Long id = result.get().id;
+                if (committedId == null) {
+                    committedId = id;
+                }
+                assertEquals(committedId, id);
+            } catch (ExecutionException e) {
+                // 같은 인스턴스에서 처리 중인 키는 거절
+                assertInstanceOf(IllegalStateException.class, e.getCause());
+            }
+        }
+        assertNotNull(committedId);
+        assertEquals(1, committedWrites(name));
+    }
+
+    private Supplier<ReservationResponse> write(String name) {
+        return () -> commandPipeline.execute(SEAT_ID, group -> {
+            Building building = new Building();
+            building.setName(name);
+            ReservationResponse res = new ReservationResponse();
+            res.id = buildingRepository.save(building).getId();
+            return res;
+        });
+    }
+
+    private IdempotencyStore newStore(long ttlMillis) {
+        return new IdempotencyStore(recordRepository, objectMapper, transactionManager, ttlMillis, 10_000);
+    }
+
+    private String name() {
+        String name = "idempotency-" + UUID.randomUUID();
+        names.add(name);
+        return name;
+    }
+
+    private long committedWrites(String name) {
+        return buildingRepository.findAll().stream().filter(b -> name.equals(b.getName())).count();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PageCursorTest {
+
+    @Test
+    void timeAndId_ShouldRoundTrip() {
+        LocalDateTime startTime = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_000_000);
+
+        PageCursor.TimeAndId decoded = PageCursor.decodeTimeAndId(PageCursor.encode(startTime, 42L));
+
+        assertEquals(startTime, decoded.startTime());
+        assertEquals(42L, decoded.id());
+    }
+
+    @Test
+    void seatId_ShouldRoundTrip() {
+        assertEquals(1234L, PageCursor.decodeSeatId(PageCursor.encode(1234L)));
+    }
+
+    @Test
+    void malformedCursor_ShouldRejectAsBadRequest() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeTimeAndId("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeTimeAndId(raw("2024-03-01T09:30")));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeTimeAndId(raw("yesterday|42")));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeSeatId(raw("seat-1")));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decodeSeatId("%%%"));
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
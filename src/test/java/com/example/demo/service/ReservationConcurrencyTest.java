@@ -0,0 +1,176 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ReservationRequest;
+import com.example.demo.entity.Building;
+import com.example.demo.entity.Floor;
+import com.example.demo.entity.Reservation;
+import com.example.demo.entity.Seat;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.repository.BuildingRepository;
+import com.example.demo.repository.FloorRepository;
+import com.example.demo.repository.ReservationRepository;
+import com.example.demo.repository.SeatDayOccupancyRepository;
+import com.example.demo.repository.SeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 좌석/예약을 직접 만들고 메모리 인덱스에도 반영되므로, 테스트 후 데이터를 지우고 컨텍스트를 다시 만들게 함
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ReservationConcurrencyTest {
+
+    private static final int BOOKERS = 32;
+    private static final int UNRELATED_SEATS = 4;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatDayOccupancyRepository occupancyRepository;
+
+    @Autowired
+    private FloorRepository floorRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    private Building building;
+    private Floor floor;
+    private final List<Seat> seats = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        building = new Building();
+        building.setName("concurrency-test");
+        building = buildingRepository.save(building);
+        floor = new Floor();
+        floor.setBuilding(building);
+        floor.setFloor(1);
+        floor = floorRepository.save(floor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Set<Long> seatIds = seats.stream().map(Seat::getId).collect(Collectors.toSet());
+        reservationRepository.deleteAll(reservationRepository.findAll().stream()
+                .filter(r -> seatIds.contains(r.getSeatId()))
+                .toList());
+        occupancyRepository.deleteAll(occupancyRepository.findAll().stream()
+                .filter(o -> seatIds.contains(o.getSeatId()))
+                .toList());
+        // 예약마다 좌석 버전이 올라가므로 들고 있는 엔티티 대신 id 로 지움
+        seatRepository.deleteAllById(seatIds);
+        seats.clear();
+        floorRepository.delete(floor);
+        buildingRepository.delete(building);
+    }
+
+    @Test
+    void concurrentBookings_ShouldNeverDoubleBookSeat() throws Exception {
+        // Given
+        Seat contended = createSeat("contended");
+        List<Seat> unrelated = new ArrayList<>();
+        for (int i = 0; i < UNRELATED_SEATS; i++) {
+            unrelated.add(createSeat("unrelated-" + i));
+        }
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Boolean>> contendedResults = new ArrayList<>();
+        List<Future<Boolean>> unrelatedResults = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < BOOKERS; i++) {
+            // 같은 좌석에 서로 겹치는 구간으로 예약 시도
+            LocalDateTime start = base.plusMinutes(30L * (i % 4));
+            contendedResults.add(pool.submit(book(startSignal, 1000L + i, contended.getId(), start, start.plusHours(1))));
+
+            // 다른 좌석에는 서로 겹치지 않는 구간으로 예약 시도
+            LocalDateTime slot = base.plusHours(2L * (i / UNRELATED_SEATS));
+            Long seatId = unrelated.get(i % UNRELATED_SEATS).getId();
+            unrelatedResults.add(pool.submit(book(startSignal, 2000L + i, seatId, slot, slot.plusHours(1))));
+        }
+        startSignal.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS));
+
+        // Then
+        long accepted = 0;
+        for (Future<Boolean> result : contendedResults) {
+            if (result.get()) {
+                accepted++;
+            }
+        }
+        assertTrue(accepted >= 1);
+        for (Future<Boolean> result : unrelatedResults) {
+            assertTrue(result.get());
+        }
+
+        List<Reservation> booked = reservationRepository.findAll().stream()
+                .filter(r -> contended.getId().equals(r.getSeatId()))
+                .toList();
+        assertEquals(accepted, booked.size());
+        for (int i = 0; i < booked.size(); i++) {
+            for (int j = i + 1; j < booked.size(); j++) {
+                Reservation a = booked.get(i);
+                Reservation b = booked.get(j);
+                assertTrue(a.getEndTime().isBefore(b.getStartTime()) || a.getStartTime().isAfter(b.getEndTime()),
+                        "reservations " + a.getId() + " and " + b.getId() + " overlap");
+            }
+        }
+    }
+
+    private Callable<Boolean> book(CountDownLatch startSignal, Long employeeId, Long seatId,
+                                   LocalDateTime start, LocalDateTime end) {
+        return () -> {
+            ReservationRequest request = new ReservationRequest();
+            request.setEmployeeId(employeeId);
+            request.setSeatId(seatId);
+            request.setStartTime(start);
+            request.setEndTime(end);
+            startSignal.await();
+            try {
+                reservationService.createReservation(request);
+                return true;
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                return false;
+            }
+        };
+    }
+
+    private Seat createSeat(String name) {
+        Seat seat = new Seat();
+        seat.setFloor(floor);
+        seat.setName(name);
+        seat.setStatus(SeatStatus.AVAILABLE);
+        Seat saved = seatRepository.save(seat);
+        seats.add(saved);
+        return saved;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.demo.service;
+
+import com.example.demo.batch.ReservationArchiver;
+import com.example.demo.entity.Building;
+import com.example.demo.entity.Floor;
+import com.example.demo.entity.Reservation;
+import com.example.demo.entity.ReservationArchive;
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.entity.Seat;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.repository.BuildingRepository;
+import com.example.demo.repository.FloorRepository;
+import com.example.demo.repository.ReservationArchiveRepository;
+import com.example.demo.repository.ReservationRepository;
+import com.example.demo.repository.SeatRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 절반은 미리 보관해 두고, 내보내기가 응답을 쓰기 시작한 시점(첫 버퍼 flush)에 다른 스레드에서 나머지를 보관해
+// 두 테이블을 읽는 사이에 옮겨진 행도 빠지거나 두 번 나오지 않는지 확인
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ReservationExportArchiveTest {
+
+    private static final Long EMPLOYEE_ID = 9_900_002L;
+    // NDJSON 한 줄이 200 byte 안팎이라 각 절반이 64KB 쓰기 버퍼를 넘는 건수
+    private static final int RESERVATIONS = 2_000;
+
+    @Autowired
+    private ReservationExportService exportService;
+
+    @Autowired
+    private ReservationArchiver archiver;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private ReservationArchiveRepository archiveRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private FloorRepository floorRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Building building;
+    private Floor floor;
+    private Seat seat;
+    private final List<Long> reservationIds = new ArrayList<>();
+    // 보관 기간(90일)이 지난 예약
+    private final LocalDateTime base = LocalDateTime.now().minusDays(200).withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+    @BeforeEach
+    void setUp() {
+        building = new Building();
+        building.setName("export-archive-test");
+        building = buildingRepository.save(building);
+        floor = new Floor();
+        floor.setBuilding(building);
+        floor.setFloor(1);
+        floor = floorRepository.save(floor);
+        seat = new Seat();
+        seat.setFloor(floor);
+        seat.setName("export-archive");
+        seat.setStatus(SeatStatus.AVAILABLE);
+        seat = seatRepository.save(seat);
+        createReservations(0, RESERVATIONS / 2);
+        // 보관 경계도 이때 세워져 내보내기가 보관 테이블을 함께 읽음
+        archiver.archive();
+        createReservations(RESERVATIONS / 2, RESERVATIONS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllById(reservationRepository.findAllById(reservationIds).stream().map(Reservation::getId).toList());
+        archiveRepository.deleteAllById(archiveRepository.findAllById(reservationIds).stream().map(ReservationArchive::getId).toList());
+        reservationIds.clear();
+        seatRepository.delete(seat);
+        floorRepository.delete(floor);
+        buildingRepository.delete(building);
+    }
+
+    @Test
+    void write_WhenArchivedDuringExport_ShouldExportEveryRowOnce() throws Exception {
+        AtomicInteger archivedDuringExport = new AtomicInteger(-1);
+        ByteArrayOutputStream body = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                if (archivedDuringExport.get() < 0) {
+                    archiveInAnotherThread(archivedDuringExport);
+                }
+                super.write(b, off, len);
+            }
+        };
+        ReservationExportService.ExportRequest request = exportService.prepare(
+                EMPLOYEE_ID, null, null, base.minusDays(1), base.plusDays(30), "ndjson");
+
+        long written = exportService.write(request, body);
+
+        assertTrue(archivedDuringExport.get() >= RESERVATIONS / 2);
+        assertEquals(0, reservationRepository.findAllById(reservationIds).size());
+        List<Long> exported = new ArrayList<>();
+        for (String line : body.toString(StandardCharsets.UTF_8).split("\n")) {
+            exported.add(objectMapper.readTree(line).get("id").asLong());
+        }
+        assertEquals(reservationIds.stream().sorted().toList(), exported.stream().sorted().toList());
+        assertEquals(RESERVATIONS, written);
+    }
+
+    private void createReservations(int from, int to) {
+        List<Reservation> reservations = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            LocalDateTime start = base.plusMinutes(i * 10L);
+            Reservation reservation = new Reservation();
+            reservation.setEmployeeId(EMPLOYEE_ID);
+            reservation.setSeat(seat);
+            reservation.setStartTime(start);
+            reservation.setEndTime(start.plusMinutes(5));
+            reservation.setStatus(ReservationStatus.COMPLETED);
+            reservation.setCreatedAt(start.minusDays(1));
+            reservations.add(reservation);
+        }
+        reservationRepository.saveAll(reservations).forEach(r -> reservationIds.add(r.getId()));
+    }
+
+    // 내보내기 트랜잭션에 묶이지 않도록 다른 스레드에서 실행하고 끝날 때까지 기다림
+    private void archiveInAnotherThread(AtomicInteger archived) {
+        Thread thread = new Thread(() -> archived.set(archiver.archive()));
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("보관 작업 대기 중 중단되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.ReservationResponse;
+import com.example.demo.entity.Building;
+import com.example.demo.entity.Floor;
+import com.example.demo.entity.Reservation;
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.entity.Seat;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.repository.BuildingRepository;
+import com.example.demo.repository.FloorRepository;
+import com.example.demo.repository.ReservationRepository;
+import com.example.demo.repository.SeatRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// 이력은 지난 COMPLETED 예약을 직접 저장해 만들고, 좌석은 예약 없는 새 좌석으로 확인
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class ReservationPagingTest {
+
+    private static final Long EMPLOYEE_ID = 9_900_001L;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private FloorRepository floorRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    private Building building;
+    private Floor floor;
+    private final List<Seat> seats = new ArrayList<>();
+    private final List<Reservation> reservations = new ArrayList<>();
+    private final LocalDateTime base = LocalDateTime.now().minusDays(10).withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+    @BeforeEach
+    void setUp() {
+        building = new Building();
+        building.setName("paging-test");
+        building = buildingRepository.save(building);
+        floor = new Floor();
+        floor.setBuilding(building);
+        floor.setFloor(1);
+        floor = floorRepository.save(floor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll(reservations);
+        reservations.clear();
+        seatRepository.deleteAll(seats);
+        seats.clear();
+        floorRepository.delete(floor);
+        buildingRepository.delete(building);
+    }
+
+    @Test
+    void historyPages_ShouldCoverAllRowsOnceInStartTimeAndIdOrder() {
+        Seat seat = createSeat("history", SeatStatus.AVAILABLE);
+        for (int i = 0; i < 6; i++) {
+            createReservation(seat, base.plusDays(i));
+        }
+        // 시작 시간이 같은 예약은 id 순
+        createReservation(seat, base.plusDays(2));
+        List<Long> expected = reservations.stream()
+                .sorted(Comparator.comparing(Reservation::getStartTime).thenComparing(Reservation::getId))
+                .map(Reservation::getId)
+                .toList();
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<ReservationResponse> page = reservationService.getReservationHistoryPage(
+                    EMPLOYEE_ID, base.minusDays(1), base.plusDays(7), cursor, 3);
+            page.items.forEach(r -> walked.add(r.id));
+            cursor = page.nextCursor;
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(expected, walked);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void historySkipLimit_ShouldMatchKeysetPages() {
+        Seat seat = createSeat("history-skip", SeatStatus.AVAILABLE);
+        for (int i = 0; i < 7; i++) {
+            createReservation(seat, base.plusDays(i));
+        }
+        LocalDateTime from = base.minusDays(1);
+        LocalDateTime to = base.plusDays(7);
+        CursorPage<ReservationResponse> first = reservationService.getReservationHistoryPage(EMPLOYEE_ID, from, to, null, 3);
+        CursorPage<ReservationResponse> second = reservationService.getReservationHistoryPage(EMPLOYEE_ID, from, to, first.nextCursor, 3);
+
+        assertEquals(ids(second.items), ids(reservationService.getReservationHistory(EMPLOYEE_ID, from, to, 3, 3)));
+        assertEquals(1, reservationService.getReservationHistory(EMPLOYEE_ID, from, to, 6, 3).size());
+        assertEquals(0, reservationService.getReservationHistory(EMPLOYEE_ID, from, to, 7, 3).size());
+        assertThrows(IllegalArgumentException.class,
+                () -> reservationService.getReservationHistory(EMPLOYEE_ID, from, to, 1001, 3));
+    }
+
+    @Test
+    void availableSeatPages_ShouldSkipBrokenSeatsAndEndWithoutCursor() {
+        Seat s0 = createSeat("s0", SeatStatus.AVAILABLE);
+        Seat s1 = createSeat("s1", SeatStatus.AVAILABLE);
+        createSeat("s2", SeatStatus.BROKEN);
+        Seat s3 = createSeat("s3", SeatStatus.AVAILABLE);
+        Seat s4 = createSeat("s4", SeatStatus.AVAILABLE);
+        List<Long> seatIds = seats.stream().map(Seat::getId).toList();
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        LocalDateTime end = start.plusHours(2);
+
+        CursorPage<Long> first = reservationService.getAvailableSeatsPage(start, end, seatIds, null, 2);
+        CursorPage<Long> second = reservationService.getAvailableSeatsPage(start, end, seatIds, first.nextCursor, 2);
+
+        assertEquals(List.of(s0.getId(), s1.getId()), first.items);
+        assertNotNull(first.nextCursor);
+        assertEquals(List.of(s3.getId(), s4.getId()), second.items);
+        assertNull(second.nextCursor);
+        assertEquals(List.of(s1.getId(), s3.getId()), reservationService.getAvailableSeats(start, end, seatIds, 1, 2));
+        assertEquals(List.of(), reservationService.getAvailableSeats(start, end, seatIds, 4, 2));
+    }
+
+    private Seat createSeat(String name, SeatStatus status) {
+        Seat seat = new Seat();
+        seat.setFloor(floor);
+        seat.setName("paging-" + name);
+        seat.setStatus(status);
+        Seat saved = seatRepository.save(seat);
+        seats.add(saved);
+        return saved;
+    }
+
+    private void createReservation(Seat seat, LocalDateTime start) {
+        Reservation reservation = new Reservation();
+        reservation.setEmployeeId(EMPLOYEE_ID);
+        reservation.setSeat(seat);
+        reservation.setStartTime(start);
+        reservation.setEndTime(start.plusHours(1));
+        reservation.setStatus(ReservationStatus.COMPLETED);
+        reservation.setCreatedAt(start.minusDays(1));
+        reservations.add(reservationRepository.save(reservation));
+    }
+
+    private static List<Long> ids(List<ReservationResponse> responses) {
+        return responses.stream().map(r -> r.id).toList();
+    }
+}
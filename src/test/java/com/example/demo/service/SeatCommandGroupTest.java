@@ -0,0 +1,184 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.ReservationRequest;
+import com.example.demo.dto.ReservationResponse;
+import com.example.demo.entity.Building;
+import com.example.demo.entity.Floor;
+import com.example.demo.entity.Reservation;
+import com.example.demo.entity.ReservationStatus;
+import com.example.demo.entity.Seat;
+import com.example.demo.entity.SeatStatus;
+import com.example.demo.repository.BuildingRepository;
+import com.example.demo.repository.FloorRepository;
+import com.example.demo.repository.ReservationRepository;
+import com.example.demo.repository.SeatDayOccupancyRepository;
+import com.example.demo.repository.SeatRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 실제 파이프라인에서 좌석 샤드를 붙잡아 두고 같은 좌석의 명령을 쌓아, 한 묶음(트랜잭션)으로 실행될 때의 좌석 버전과 상태를 확인
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+public class SeatCommandGroupTest {
+
+    private static final Long IN_USE_EMPLOYEE_ID = 9_900_003L;
+    private static final Long BOOKING_EMPLOYEE_ID = 9_900_004L;
+
+    @Autowired
+    private SeatCommandPipeline pipeline;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private SeatService seatService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private SeatDayOccupancyRepository occupancyRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private FloorRepository floorRepository;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private Building building;
+    private Floor floor;
+    private Seat seat;
+    private Reservation inUse;
+    private final CountDownLatch blockerStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseBlocker = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        building = new Building();
+        building.setName("seat-command-group-test");
+        building = buildingRepository.save(building);
+        floor = new Floor();
+        floor.setBuilding(building);
+        floor.setFloor(1);
+        floor = floorRepository.save(floor);
+        seat = new Seat();
+        seat.setFloor(floor);
+        seat.setName("group");
+        seat.setStatus(SeatStatus.UNAVAILABLE);
+        seat = seatRepository.save(seat);
+
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        inUse = new Reservation();
+        inUse.setEmployeeId(IN_USE_EMPLOYEE_ID);
+        inUse.setSeat(seat);
+        inUse.setStartTime(now.minusHours(1));
+        inUse.setEndTime(now.plusHours(1));
+        inUse.setStatus(ReservationStatus.IN_USE);
+        inUse.setCheckInAt(now.minusMinutes(55));
+        inUse.setCreatedAt(now.minusDays(1));
+        inUse = reservationRepository.save(inUse);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseBlocker.countDown();
+        reservationRepository.deleteAll(reservationRepository.findAll().stream()
+                .filter(r -> seat.getId().equals(r.getSeatId()))
+                .toList());
+        occupancyRepository.deleteAll(occupancyRepository.findAll().stream()
+                .filter(o -> seat.getId().equals(o.getSeatId()))
+                .toList());
+        seatRepository.deleteById(seat.getId());
+        floorRepository.delete(floor);
+        buildingRepository.delete(building);
+    }
+
+    @Test
+    void createThenReturnInOneGroup_ShouldBumpSeatVersionForBoth() throws Exception {
+        long version = seatRepository.findById(seat.getId()).orElseThrow().getVersion();
+        double fallbacks = registry.get("reservation.pipeline.fallbacks").counter().count();
+        holdShard();
+
+        // 예약(좌석 버전 강제 증가)이 먼저, 반납(사용 중 예약 일괄 종료)이 뒤에 오도록 차례로 쌓음
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        CompletableFuture<ReservationResponse> created = CompletableFuture.supplyAsync(
+                () -> reservationService.createReservation(request(tomorrow, tomorrow.plusHours(1))));
+        awaitQueued(1);
+        CompletableFuture<ReservationResponse> returned = CompletableFuture.supplyAsync(
+                () -> reservationService.returnSeat(inUse.getId(), IN_USE_EMPLOYEE_ID));
+        awaitQueued(2);
+        releaseBlocker.countDown();
+
+        assertNotNull(created.get(10, TimeUnit.SECONDS).id);
+        assertEquals(ReservationStatus.COMPLETED.name(), returned.get(10, TimeUnit.SECONDS).status);
+        assertEquals(fallbacks, registry.get("reservation.pipeline.fallbacks").counter().count());
+        Seat after = seatRepository.findById(seat.getId()).orElseThrow();
+        assertEquals(SeatStatus.AVAILABLE, after.getStatus());
+        assertEquals(version + 2, after.getVersion());
+    }
+
+    @Test
+    void forceReturn_ShouldCancelInUseReservationAndReleaseSeat() {
+        long version = seatRepository.findById(seat.getId()).orElseThrow().getVersion();
+
+        seatService.forceReturnSeat(seat.getId());
+
+        Reservation cancelled = reservationRepository.findById(inUse.getId()).orElseThrow();
+        assertEquals(ReservationStatus.FORCED_CANCEL, cancelled.getStatus());
+        assertNotNull(cancelled.getCompletedAt());
+        Seat after = seatRepository.findById(seat.getId()).orElseThrow();
+        assertEquals(SeatStatus.AVAILABLE, after.getStatus());
+        assertEquals(version + 1, after.getVersion());
+    }
+
+    // 좌석 샤드의 작업 스레드를 붙잡아 뒤 명령이 대기열에 쌓이게 함
+    private void holdShard() throws InterruptedException {
+        pipeline.submit(seat.getId(), group -> {
+            blockerStarted.countDown();
+            try {
+                releaseBlocker.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+    }
+
+    private void awaitQueued(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pipeline.queuedCount() < count) {
+            assertTrue(System.nanoTime() < deadline, "command was not queued");
+            Thread.sleep(10);
+        }
+    }
+
+    private ReservationRequest request(LocalDateTime start, LocalDateTime end) {
+        ReservationRequest request = new ReservationRequest();
+        request.setEmployeeId(BOOKING_EMPLOYEE_ID);
+        request.setSeatId(seat.getId());
+        request.setStartTime(start);
+        request.setEndTime(end);
+        return request;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.demo.service;
+
+import com.example.demo.metrics.ReservationMetrics;
+import com.example.demo.metrics.ReservationMetrics.Rejection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+// 샤드 하나짜리 파이프라인에서 첫 명령을 붙잡아 두고 뒤 명령을 대기열에 쌓아 묶음/종료 동작을 확인
+public class SeatCommandPipelineTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private SimpleMeterRegistry registry;
+    private ReservationMetrics metrics;
+    private SeatCommandPipeline pipeline;
+    private final CountDownLatch blockerStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseBlocker = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        registry = new SimpleMeterRegistry();
+        metrics = new ReservationMetrics(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseBlocker.countDown();
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    void groupRollback_ShouldFallBackAndCountRejectionOnce() throws Exception {
+        start(5_000);
+        CompletableFuture<String> blocker = pipeline.submit(1L, group -> block());
+        assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+
+        AtomicInteger firstRuns = new AtomicInteger();
+        AtomicInteger flakyRuns = new AtomicInteger();
+        CompletableFuture<String> first = pipeline.submit(2L, group -> {
+            firstRuns.incrementAndGet();
+            return "first";
+        });
+        CompletableFuture<String> rejected = pipeline.submit(3L, group -> {
+            metrics.rejected(Rejection.OVERLAP);
+            throw new IllegalArgumentException("이미 예약된 좌석입니다.");
+        });
+        // 묶음 시도에서만 DB 오류를 내 묶음 전체가 롤백되게 함
+        CompletableFuture<String> flaky = pipeline.submit(4L, group -> {
+            if (flakyRuns.incrementAndGet() == 1) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return "flaky";
+        });
+        CompletableFuture<String> last = pipeline.submit(5L, group -> "last");
+        releaseBlocker.countDown();
+
+        assertEquals("blocked", blocker.get(5, TimeUnit.SECONDS));
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("flaky", flaky.get(5, TimeUnit.SECONDS));
+        assertEquals("last", last.get(5, TimeUnit.SECONDS));
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+
+        assertEquals(2, firstRuns.get());
+        assertEquals(2, flakyRuns.get());
+        assertEquals(1.0, registry.get("reservation.pipeline.fallbacks").counter().count());
+        assertEquals(1.0, rejections(Rejection.OVERLAP));
+    }
+
+    @Test
+    void stop_ShouldFailQueuedAndLaterCommands() throws Exception {
+        start(5_000);
+        CompletableFuture<String> blocker = pipeline.submit(1L, group -> block());
+        assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+        AtomicInteger queuedRuns = new AtomicInteger();
+        List<CompletableFuture<Integer>> queued = new ArrayList<>();
+        for (long seatId = 2; seatId <= 4; seatId++) {
+            queued.add(pipeline.submit(seatId, group -> queuedRuns.incrementAndGet()));
+        }
+
+        CompletableFuture<Void> stopping = CompletableFuture.runAsync(pipeline::stop);
+        while (pipeline.isRunning()) {
+            Thread.sleep(10);
+        }
+        CompletableFuture<Integer> afterStop = pipeline.submit(5L, group -> queuedRuns.incrementAndGet());
+        assertTrue(afterStop.isCompletedExceptionally());
+        assertFalse(stopping.isDone());
+
+        releaseBlocker.countDown();
+        stopping.get(5, TimeUnit.SECONDS);
+
+        // 처리 중이던 명령은 끝까지 실행되고, 대기열에 남은 명령은 실행되지 않고 실패
+        assertEquals("blocked", blocker.get());
+        for (CompletableFuture<Integer> future : queued) {
+            ExecutionException failure = assertThrows(ExecutionException.class, future::get);
+            assertInstanceOf(IllegalStateException.class, failure.getCause());
+        }
+        assertEquals(0, queuedRuns.get());
+    }
+
+    @Test
+    void execute_WhenResultTakesTooLong_ShouldTimeOut() throws Exception {
+        start(200);
+        pipeline.submit(1L, group -> block());
+        assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+
+        assertThrows(IllegalStateException.class, () -> pipeline.execute(2L, group -> "late"));
+    }
+
+    private void start(long commandTimeoutMillis) {
+        pipeline = new SeatCommandPipeline(new SeatLockStripes(16), transactionManager, entityManager, metrics,
+                1, 100, 32, commandTimeoutMillis);
+        pipeline.start();
+    }
+
+    private String block() {
+        blockerStarted.countDown();
+        try {
+            releaseBlocker.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "blocked";
+    }
+
+    private double rejections(Rejection reason) {
+        return registry.get("reservation.rejections").tag("reason", reason.name().toLowerCase()).counter().count();
+    }
+}